@@ -0,0 +1,127 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.HackathonSystemApplication;
+import com.example.demo.service.ProjectService;
+import com.example.demo.service.StatsCounterService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application once per benchmark JVM against a private H2
+ * database and seeds it with realistic volumes:
+ *
+ * 10k users (first 100 are organizers), 1k hackathons,
+ * 100k registrations (100 per hackathon), 20k projects (20 per hackathon).
+ *
+ * Rows are written with JDBC batches and explicit ids so seeding takes
+ * seconds rather than minutes and does not depend on the id strategy.
+ */
+public final class BenchmarkContext {
+
+    public static final int USERS = 10_000;
+    public static final int ORGANIZERS = 100;
+    public static final int HACKATHONS = 1_000;
+    public static final int REGISTRATIONS_PER_HACKATHON = 100;
+    public static final int PROJECTS_PER_HACKATHON = 20;
+
+    private static final int BATCH = 1_000;
+    // BCrypt-shaped placeholder — stored only, never verified on the measured paths
+    private static final String PASSWORD_HASH = "$2a$12$8Yq1pM0b0qWw1cR3rX9cUOQd3xg8rR0H6l1cFJ2x1J8cT3nL7sB0a";
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(HackathonSystemApplication.class)
+                    .profiles("test")
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:hacknation_bench;DB_CLOSE_DELAY=-1",
+                            "spring.jpa.properties.hibernate.generate_statistics=false",
+                            "server.port=0",
+                            "logging.level.root=WARN")
+                    .run();
+            seed(context.getBean(JdbcTemplate.class));
+            // Seeding bypasses the services, so rebuild the in-memory views
+            context.getBean(ProjectService.class).warmLeaderboard();
+            context.getBean(StatsCounterService.class).reconcile();
+        }
+        return context;
+    }
+
+    public static String userEmail(long userId) {
+        return "bench-user-" + userId + "@test.com";
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>(BATCH);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[] { id, "Bench User " + id, userEmail(id), PASSWORD_HASH, "College " + (id % 300),
+                    id <= ORGANIZERS ? "ORGANIZER" : "PARTICIPANT", Timestamp.valueOf(now), true, 0L });
+            flush(jdbc, "INSERT INTO users (id, name, email, password, college, role, created_at, is_active, "
+                    + "token_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", users, id == USERS);
+        }
+
+        List<Object[]> hackathons = new ArrayList<>(BATCH);
+        String[] statuses = { "UPCOMING", "ACTIVE", "COMPLETED", "CANCELLED" };
+        for (long id = 1; id <= HACKATHONS; id++) {
+            LocalDate start = LocalDate.now().plusDays(id % 365);
+            hackathons.add(new Object[] { id, "Bench Hackathon " + id, "Description for hackathon " + id,
+                    "City " + (id % 50), Date.valueOf(start), Date.valueOf(start.plusDays(2)),
+                    REGISTRATIONS_PER_HACKATHON * 2, 10_000.0, statuses[(int) (id % statuses.length)],
+                    1 + (id % ORGANIZERS), Timestamp.valueOf(now) });
+            flush(jdbc, "INSERT INTO hackathons (id, name, description, location, start_date, end_date, "
+                    + "max_participants, prize_amount, status, organizer_id, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", hackathons, id == HACKATHONS);
+        }
+
+        List<Object[]> registrations = new ArrayList<>(BATCH);
+        long regId = 1;
+        for (int h = 0; h < HACKATHONS; h++) {
+            for (int i = 0; i < REGISTRATIONS_PER_HACKATHON; i++, regId++) {
+                registrations.add(new Object[] { regId, participantOf(h, i), h + 1L, Timestamp.valueOf(now),
+                        "REGISTERED" });
+                flush(jdbc, "INSERT INTO registrations (id, user_id, hackathon_id, registered_at, status) "
+                        + "VALUES (?, ?, ?, ?, ?)", registrations,
+                        regId == (long) HACKATHONS * REGISTRATIONS_PER_HACKATHON);
+            }
+        }
+
+        List<Object[]> projects = new ArrayList<>(BATCH);
+        long projectId = 1;
+        for (int h = 0; h < HACKATHONS; h++) {
+            for (int i = 0; i < PROJECTS_PER_HACKATHON; i++, projectId++) {
+                projects.add(new Object[] { projectId, "Bench Project " + projectId,
+                        "Description for project " + projectId, "Java, Spring, React", (int) (projectId * 37 % 101),
+                        "SUBMITTED", h + 1L, participantOf(h, i), Timestamp.valueOf(now.minusMinutes(projectId)) });
+                flush(jdbc, "INSERT INTO projects (id, title, description, tech_stack, score, status, "
+                        + "hackathon_id, submitted_by_id, submitted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        projects, projectId == (long) HACKATHONS * PROJECTS_PER_HACKATHON);
+            }
+        }
+    }
+
+    /** The i-th registered participant of hackathon index h (distinct per hackathon). */
+    static long participantOf(int h, int i) {
+        return 1 + ((long) h * REGISTRATIONS_PER_HACKATHON + i) % USERS;
+    }
+
+    private static void flush(JdbcTemplate jdbc, String sql, List<Object[]> rows, boolean last) {
+        if (rows.size() >= BATCH || (last && !rows.isEmpty())) {
+            jdbc.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.HackathonResponse;
+import com.example.demo.service.HackathonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HackathonService read paths: full listing, first keyset page, and the
+ * single-hackathon toResponse() path (entity + two COUNT queries).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HackathonServiceBenchmark {
+
+    private HackathonService hackathonService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hackathonService = BenchmarkContext.get().getBean(HackathonService.class);
+    }
+
+    @Benchmark
+    public List<HackathonResponse> listAll() {
+        return hackathonService.getAllHackathons();
+    }
+
+    @Benchmark
+    public CursorPage<HackathonResponse> firstPage() {
+        return hackathonService.getHackathonPage(null, null, 20);
+    }
+
+    @Benchmark
+    public HackathonResponse byId() {
+        long id = 1 + ThreadLocalRandom.current().nextInt(BenchmarkContext.HACKATHONS);
+        return hackathonService.getHackathonById(id);
+    }
+}
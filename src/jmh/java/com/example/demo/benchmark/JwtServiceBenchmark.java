@@ -0,0 +1,65 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtClaims;
+import com.example.demo.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService token issue / parse / validate. No Spring context needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "dGVzdFNlY3JldEtleUZvckhUTUhBQzI1NlRlc3RpbmdPbmx5";
+    private static final String USER = "bench-user-42@test.com";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        jwtService.init();
+        token = jwtService.generateToken(USER);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(USER);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    /**
+     * The filter's per-request work before P7: extractUsername(), then
+     * isTokenValid() re-parsing for subject and again for expiration —
+     * three full parses of the same token.
+     */
+    @Benchmark
+    public Date legacyThreeParses() {
+        jwtService.extractUsername(token);
+        jwtService.extractClaim(token, Claims::getSubject);
+        return jwtService.extractClaim(token, Claims::getExpiration);
+    }
+
+    /** The filter's per-request work since P7: one parse, claims reused. */
+    @Benchmark
+    public JwtClaims onePass() {
+        return jwtService.parseToken(token).orElseThrow();
+    }
+}
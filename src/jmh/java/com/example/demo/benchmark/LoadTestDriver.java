@@ -0,0 +1,204 @@
+package com.example.demo.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator for comparing request execution modes
+ * against a running instance (platform threads vs. the "virtual" profile).
+ *
+ * Each simulated client sends one request, waits for the response and sends
+ * the next, cycling through the configured paths. Latencies are recorded in
+ * 100µs buckets; throughput and p50/p99/max are reported per path and in
+ * total, and written to target/loadtest-{label}.json.
+ *
+ *   mvn -Pbenchmark test-compile exec:exec@loadtest -Dloadtest.label=platform
+ *   mvn -Pbenchmark test-compile exec:exec@loadtest -Dloadtest.label=virtual
+ *
+ * System properties (defaults in brackets):
+ *   loadtest.url [http://localhost:8080], loadtest.clients [2000],
+ *   loadtest.warmup-s [10], loadtest.duration-s [60],
+ *   loadtest.paths [/api/hackathons,/api/stats,/api/projects/leaderboard],
+ *   loadtest.token [none — sent as a Bearer token when set], loadtest.label [run]
+ *
+ * Status: only the harness is delivered. The platform-vs-virtual comparison
+ * has not been run yet: it needs a JDK 21 runtime and a MySQL instance, and
+ * neither was available where the virtual profile was built. No throughput
+ * or latency claims are made for the virtual profile until both runs above
+ * have been made against the same database and their JSON reports compared.
+ */
+public final class LoadTestDriver {
+
+    private static final long BUCKET_NANOS = 100_000L;
+    private static final int BUCKETS = 300_000; // 30s at 100µs; slower lands in the last bucket
+
+    private final String[] paths;
+    private final Stats[] stats;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String token;
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadTestDriver(String baseUrl, String[] paths, String token) {
+        this.baseUrl = baseUrl;
+        this.paths = paths;
+        this.token = token;
+        this.stats = new Stats[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            stats[i] = new Stats();
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.url", "http://localhost:8080");
+        int clients = Integer.getInteger("loadtest.clients", 2000);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-s", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration-s", 60);
+        String[] paths = System.getProperty("loadtest.paths",
+                "/api/hackathons,/api/stats,/api/projects/leaderboard").split(",");
+        String token = System.getProperty("loadtest.token");
+        String label = System.getProperty("loadtest.label", "run");
+
+        LoadTestDriver driver = new LoadTestDriver(url, paths, token);
+        String report = driver.run(clients, warmupSeconds, durationSeconds, label);
+        System.out.println(report);
+
+        Path out = Path.of("target", "loadtest-" + label + ".json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, driver.toJson(label, clients, durationSeconds));
+        System.out.println("Written " + out.toAbsolutePath());
+    }
+
+    private String run(int clients, int warmupSeconds, int durationSeconds, String label)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            next(c % paths.length, done);
+        }
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recording = true;
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        recording = false;
+        running = false;
+        done.await(60, TimeUnit.SECONDS);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%n== %s: %d clients, %ds ==%n", label, clients, durationSeconds));
+        sb.append(String.format(Locale.ROOT, "%-32s %10s %10s %9s %9s %9s %8s%n",
+                "path", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors"));
+        Stats total = new Stats();
+        for (int i = 0; i < paths.length; i++) {
+            sb.append(stats[i].line(paths[i], durationSeconds));
+            total.merge(stats[i]);
+        }
+        sb.append(total.line("TOTAL", durationSeconds));
+        return sb.toString();
+    }
+
+    private void next(int pathIndex, CountDownLatch done) {
+        if (!running) {
+            done.countDown();
+            return;
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + paths[pathIndex]))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        long start = System.nanoTime();
+        client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (recording) {
+                        boolean ok = error == null && response.statusCode() < 400;
+                        stats[pathIndex].record(System.nanoTime() - start, ok);
+                    }
+                    next((pathIndex + 1) % paths.length, done);
+                });
+    }
+
+    private String toJson(String label, int clients, int durationSeconds) {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < paths.length; i++) {
+            rows.add(stats[i].json(paths[i], durationSeconds));
+        }
+        return String.format(Locale.ROOT, "{\"label\":\"%s\",\"clients\":%d,\"durationSeconds\":%d,\"paths\":[%s]}%n",
+                label, clients, durationSeconds, String.join(",", rows));
+    }
+
+    // -------------------------------------------------------------------------
+    // Latency histogram
+    // -------------------------------------------------------------------------
+
+    private static final class Stats {
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean ok) {
+            buckets.incrementAndGet((int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1));
+            count.increment();
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        void merge(Stats other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long v = other.buckets.get(i);
+                if (v != 0) {
+                    buckets.addAndGet(i, v);
+                }
+            }
+            count.add(other.count.sum());
+            errors.add(other.errors.sum());
+        }
+
+        double percentileMs(double p) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return (i + 1) * BUCKET_NANOS / 1e6;
+                }
+            }
+            return BUCKETS * BUCKET_NANOS / 1e6;
+        }
+
+        String line(String name, int seconds) {
+            long n = count.sum();
+            return String.format(Locale.ROOT, "%-32s %10d %10.0f %9.1f %9.1f %9.1f %8d%n",
+                    name, n, (double) n / seconds, percentileMs(0.50), percentileMs(0.99),
+                    percentileMs(1.0), errors.sum());
+        }
+
+        String json(String name, int seconds) {
+            long n = count.sum();
+            return String.format(Locale.ROOT,
+                    "{\"path\":\"%s\",\"requests\":%d,\"throughput\":%.1f,\"p50Ms\":%.1f,\"p99Ms\":%.1f,\"errors\":%d}",
+                    name, n, (double) n / seconds, percentileMs(0.50), percentileMs(0.99), errors.sum());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.LeaderboardRank;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjectService leaderboard paths over 20k seeded projects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+    private static final int PROJECTS = BenchmarkContext.HACKATHONS * BenchmarkContext.PROJECTS_PER_HACKATHON;
+
+    private ProjectService projectService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        projectService = BenchmarkContext.get().getBean(ProjectService.class);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> globalLeaderboard() {
+        return projectService.getLeaderboard(null, 20);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> hackathonLeaderboard() {
+        long hackathonId = 1 + ThreadLocalRandom.current().nextInt(BenchmarkContext.HACKATHONS);
+        return projectService.getLeaderboard(hackathonId, 20);
+    }
+
+    @Benchmark
+    public LeaderboardRank rankOfProject() {
+        long projectId = 1 + ThreadLocalRandom.current().nextInt(PROJECTS);
+        return projectService.getRank(projectId);
+    }
+}
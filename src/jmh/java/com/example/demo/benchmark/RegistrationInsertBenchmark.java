@@ -0,0 +1,82 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.Registration;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.RegistrationRepository;
+import com.example.demo.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists 50k registrations through JPA (repository saveAll, 1k per
+ * transaction) — the write path whose batching depends on the entity id
+ * strategy. Each pair is a seeded participant joining a hackathon they are
+ * not registered for yet; rows are deleted again after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegistrationInsertBenchmark {
+
+    static final int INSERTS_PER_HACKATHON = 50;
+    static final int TOTAL_INSERTS = BenchmarkContext.HACKATHONS * INSERTS_PER_HACKATHON;
+
+    private static final int CHUNK = 1_000;
+
+    private UserRepository userRepository;
+    private HackathonRepository hackathonRepository;
+    private RegistrationRepository registrationRepository;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbc;
+    private long seededMaxId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.get();
+        userRepository = context.getBean(UserRepository.class);
+        hackathonRepository = context.getBean(HackathonRepository.class);
+        registrationRepository = context.getBean(RegistrationRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+        seededMaxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM registrations", Long.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        jdbc.update("DELETE FROM registrations WHERE id > ?", seededMaxId);
+    }
+
+    @Benchmark
+    public int insert50k() {
+        int inserted = 0;
+        for (int h = 0; h < BenchmarkContext.HACKATHONS; h += CHUNK / INSERTS_PER_HACKATHON) {
+            int from = h;
+            inserted += transaction.execute(status -> {
+                List<Registration> chunk = new ArrayList<>(CHUNK);
+                for (int hh = from; hh < from + CHUNK / INSERTS_PER_HACKATHON; hh++) {
+                    for (int i = 0; i < INSERTS_PER_HACKATHON; i++) {
+                        // Participants of the next block: never registered for hackathon hh
+                        long userId = BenchmarkContext.participantOf(hh,
+                                BenchmarkContext.REGISTRATIONS_PER_HACKATHON + i);
+                        chunk.add(Registration.builder()
+                                .user(userRepository.getReferenceById(userId))
+                                .hackathon(hackathonRepository.getReferenceById(hh + 1L))
+                                .build());
+                    }
+                }
+                return registrationRepository.saveAll(chunk).size();
+            });
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.SearchHit;
+import com.example.demo.model.Hackathon;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.service.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchIndex vs. the LIKE '%keyword%' scan it replaces, over 100k
+ * hackathons (the shared 1k plus 99k generated here) with varied names
+ * and descriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    static final int TOTAL_HACKATHONS = 100_000;
+
+    private static final String[] WORDS = { "robotics", "climate", "fintech", "health", "quantum", "gaming",
+            "education", "blockchain", "mobility", "energy", "security", "agritech", "space", "music", "civic",
+            "ocean", "retail", "vision", "language", "privacy" };
+
+    private HackathonRepository hackathonRepository;
+    private SearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.get();
+        hackathonRepository = context.getBean(HackathonRepository.class);
+        searchIndex = context.getBean(SearchIndex.class);
+        seed(context.getBean(JdbcTemplate.class));
+        searchIndex.rebuild();
+    }
+
+    private static String word() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+
+    @Benchmark
+    public List<Hackathon> likeScan() {
+        return hackathonRepository.searchByKeyword(word());
+    }
+
+    @Benchmark
+    public List<SearchHit> indexSearch() {
+        return searchIndex.search(word(), SearchIndex.TYPE_HACKATHON, null, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> indexPrefixSearch() {
+        return searchIndex.search(word().substring(0, 4), SearchIndex.TYPE_HACKATHON, null, null, 20);
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(1_000);
+        for (long id = BenchmarkContext.HACKATHONS + 1; id <= TOTAL_HACKATHONS; id++) {
+            String a = WORDS[(int) (id % WORDS.length)];
+            String b = WORDS[(int) (id / WORDS.length % WORDS.length)];
+            LocalDate start = LocalDate.now().plusDays(id % 365);
+            rows.add(new Object[] { id, a + " " + b + " challenge " + id,
+                    "A weekend of " + b + " and " + a + " prototypes, mentors and prizes for hackathon " + id,
+                    "City " + (id % 50), Date.valueOf(start), Date.valueOf(start.plusDays(2)), 200, 1_000.0,
+                    "UPCOMING", 1 + (id % BenchmarkContext.ORGANIZERS), Timestamp.valueOf(now) });
+            if (rows.size() == 1_000 || id == TOTAL_HACKATHONS) {
+                jdbc.batchUpdate("INSERT INTO hackathons (id, name, description, location, start_date, end_date, "
+                        + "max_participants, prize_amount, status, organizer_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.security;
+
+import com.example.demo.model.Role;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+/**
+ * Spring Security principal that also carries the account fields needed
+ * after authentication (id, display name, role, token version), so login
+ * can build its response from the Authentication instead of re-querying.
+ */
+public class AccountUserDetails extends User {
+
+    private final Long id;
+    private final String name;
+    private final Role role;
+    private final long tokenVersion;
+
+    public AccountUserDetails(Long id, String email, String name, String password, Role role,
+            boolean active, long tokenVersion) {
+        super(email, password, active, true, true, active,
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+}
@@ -1,39 +1,127 @@
 package com.example.demo.security;
 
+import com.example.demo.model.Role;
 import com.example.demo.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Duration;
 
 /**
  * Loads user from the database by email for Spring Security authentication.
+ *
+ * (P9) Lookups go through a size-bounded, time-expiring cache. The cache
+ * holds immutable account snapshots and every call returns a fresh
+ * AccountUserDetails — ProviderManager erases credentials on the principal
+ * after login, which would otherwise wipe the password from the cached copy.
+ * UserService evicts entries when role or active status changes; the TTL
+ * bounds staleness for anything changed outside the app.
+ *
+ * Hit/miss/eviction counts are published as cache.* meters (cache=userDetails)
+ * plus an explicit-invalidation counter.
+ *
+ * (P10) Also the UserDetailsPasswordService for DaoAuthenticationProvider:
+ * when a login succeeds against a hash whose BCrypt cost differs from
+ * security.bcrypt.strength, the provider re-encodes the password and hands
+ * it to updatePassword().
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.user-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, CachedAccount> cache;
+
+    private Counter invalidations;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+        invalidations = Counter.builder("hacknation.user_details.invalidations")
+                .description("Explicit user-details cache evictions after account changes")
+                .register(meterRegistry);
+    }
+
+    // No @Transactional: a cache hit must not borrow a pooled connection.
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        com.example.demo.model.User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())))
-                .accountExpired(false)
-                .accountLocked(!user.isActive())
-                .credentialsExpired(false)
-                .disabled(!user.isActive())
-                .build();
+        CachedAccount account = cache.getIfPresent(email);
+        if (account == null) {
+            // Load outside cache.get(key, loader): the loader runs inside a map-bin
+            // monitor, which would pin a virtual thread for the whole query.
+            // Concurrent misses for one email may both query; the last put wins.
+            account = load(email);
+            if (account == null) {
+                throw new UsernameNotFoundException("User not found with email: " + email);
+            }
+            cache.put(email, account);
+        }
+        return account.toUserDetails();
+    }
+
+    /**
+     * Persists a rehashed password. Runs in its own transaction because
+     * login itself is read-only.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        evict(user.getUsername());
+        if (user instanceof AccountUserDetails account) {
+            return new AccountUserDetails(account.getId(), account.getUsername(), account.getName(), newPassword,
+                    account.getRole(), account.isEnabled(), account.getTokenVersion());
+        }
+        return user;
+    }
+
+    /** Drop a cached account after its role, active flag or password changed. */
+    public void evict(String email) {
+        cache.invalidate(email);
+        invalidations.increment();
+    }
+
+    /** Returns null (not cached) for unknown emails. */
+    private CachedAccount load(String email) {
+        return userRepository.findByEmail(email)
+                .map(u -> new CachedAccount(u.getId(), u.getEmail(), u.getName(), u.getPassword(),
+                        u.getRole(), u.isActive(), u.getTokenVersion()))
+                .orElse(null);
+    }
+
+    private record CachedAccount(Long id, String email, String name, String password, Role role,
+            boolean active, long tokenVersion) {
+
+        AccountUserDetails toUserDetails() {
+            return new AccountUserDetails(id, email, name, password, role, active, tokenVersion);
+        }
     }
 }
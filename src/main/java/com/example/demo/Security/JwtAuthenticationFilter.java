@@ -8,18 +8,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * JWT Authentication Filter - intercepts every request once and validates the
  * JWT token.
+ *
+ * (P7) The token is parsed exactly once per request via
+ * JwtService.parseToken(), which checks signature and expiry together.
+ *
+ * (P8) Stateless principal: tokens carry the role and the account's token
+ * version, so the Authentication is built straight from the claims with no
+ * user lookup. Only when TokenVersionCache says the token predates a role
+ * change or ban (or the token has no version claim) is the account re-read
+ * from the DB, and disabled accounts are then rejected.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -32,6 +44,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
@@ -45,18 +60,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        String username = null;
-
-        try {
-            username = jwtService.extractUsername(jwt);
-        } catch (Exception e) {
-            logger.warn("Could not extract username from JWT: {}", e.getMessage());
-        }
+        final JwtClaims claims = jwtService.parseToken(jwt).orElse(null);
+        final String username = claims != null ? claims.getSubject() : null;
 
         if (StringUtils.hasText(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = resolvePrincipal(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
+            if (userDetails != null && userDetails.isEnabled() && username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -68,4 +78,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Principal from claims when the token is current, otherwise from the DB.
+     * Returns null if the account no longer exists.
+     */
+    private UserDetails resolvePrincipal(JwtClaims claims) {
+        String username = claims.getSubject();
+        if (claims.getRole() != null && tokenVersionCache.isCurrent(username, claims.getTokenVersion())) {
+            return org.springframework.security.core.userdetails.User
+                    .withUsername(username)
+                    .password("")
+                    .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole())))
+                    .build();
+        }
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            logger.warn("JWT subject no longer exists: {}", username);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Claims of a token that has already been signature-checked and is not
+ * expired. Produced by JwtService.parseToken() so callers never parse the
+ * same token twice.
+ */
+public final class JwtClaims {
+
+    private final Claims claims;
+
+    JwtClaims(Claims claims) {
+        this.claims = claims;
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /** Role name (e.g. "ORGANIZER"), or null for tokens issued without it. */
+    public String getRole() {
+        return claims.get(JwtService.CLAIM_ROLE, String.class);
+    }
+
+    /** Account token version, or null for tokens issued without it. */
+    public Long getTokenVersion() {
+        Number version = claims.get(JwtService.CLAIM_TOKEN_VERSION, Number.class);
+        return version != null ? version.longValue() : null;
+    }
+
+    public <T> T get(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.demo.security;
 
+import com.example.demo.model.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +13,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -25,18 +28,39 @@ import java.util.function.Function;
  * If the secret in application.properties is NOT already Base64, use the
  * UTF-8 bytes directly (as done here with the fallback) — but in
  * production the secret MUST be a Base64-encoded random 256-bit value.
+ *
+ * (P7) The signing key and the JwtParser are built once at startup and
+ * shared (both are immutable / thread-safe). parseToken() verifies the
+ * signature and expiry in a single parse and returns the claims, replacing
+ * the extractUsername() + isTokenValid() pair that parsed each token three
+ * times.
  */
 @Service
 public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    private Key signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = buildSigningKey();
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /**
      * Generate a JWT token for the given username without extra claims.
      */
@@ -44,6 +68,17 @@ public class JwtService {
         return generateToken(new HashMap<>(), username);
     }
 
+    /**
+     * Generate a JWT token carrying the account's role and token version, so
+     * JwtAuthenticationFilter can authenticate without a user lookup.
+     */
+    public String generateToken(String username, Role role, long tokenVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ROLE, role.name());
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
+        return generateToken(claims, username);
+    }
+
     /**
      * Generate a JWT token with additional claims (e.g., role).
      */
@@ -53,10 +88,23 @@ public class JwtService {
                 .setSubject(username)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verify signature and expiry and return the claims, in one parse.
+     * Empty (and logged) for any malformed, tampered or expired token.
+     */
+    public Optional<JwtClaims> parseToken(String token) {
+        try {
+            return Optional.of(new JwtClaims(extractAllClaims(token)));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("JWT validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extract the username (subject) from a JWT token.
      */
@@ -71,21 +119,9 @@ public class JwtService {
      * Returns false (and logs) for any JWT parsing exception.
      */
     public boolean isTokenValid(String token, String username) {
-        try {
-            final String extractedUsername = extractUsername(token);
-            return extractedUsername.equals(username) && !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.warn("JWT validation failed: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return parseToken(token)
+                .map(claims -> username.equals(claims.getSubject()))
+                .orElse(false);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -93,12 +129,12 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * The shared parser rejects bad signatures and expired tokens
+     * (ExpiredJwtException), so no separate expiry check is needed.
+     */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -109,8 +145,9 @@ public class JwtService {
      *
      * If the value is not valid Base64 we fall back to raw UTF-8 bytes so the
      * app doesn't crash during development, but a warning is logged.
+     * Called once from init().
      */
-    private Key getSigningKey() {
+    private Key buildSigningKey() {
         try {
             byte[] keyBytes = java.util.Base64.getDecoder().decode(secretKey);
             return Keys.hmacShaKeyFor(keyBytes);
@@ -1,6 +1,9 @@
 package com.example.demo.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,7 +16,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -47,7 +49,8 @@ public class SecurityConfig {
     private JwtAuthenticationFilter jwtAuthFilter;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+            AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -62,6 +65,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/hackathons").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/hackathons/{id}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/projects/leaderboard").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/projects/leaderboard/stream").permitAll()
 
                         // ── Swagger / OpenAPI UI (dev-only; lock down in production) ──
                         .requestMatchers(
@@ -74,6 +78,8 @@ public class SecurityConfig {
 
                         // ── Health check (load balancer probe) ────────────────────────
                         .requestMatchers("/actuator/health").permitAll()
+                        // Everything else under /actuator (metrics) is operator-only
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // ── Role-specific endpoints ────────────────────────────────────
                         .requestMatchers("/api/dashboard/admin/**").hasRole("ADMIN")
@@ -93,17 +99,18 @@ public class SecurityConfig {
 
                         // ── All remaining requests require authentication ───────────────
                         .anyRequest().authenticated())
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -113,13 +120,23 @@ public class SecurityConfig {
     }
 
     /**
-     * BCrypt with strength 12 (good balance of security & speed on modern
-     * hardware).
-     * Strength 10 is the default; 12 adds ~4× the work factor.
+     * BCrypt with a per-deployment cost (security.bcrypt.strength, default 12),
+     * run on a bounded executor so hashing cannot occupy every request thread.
+     * When the pool and its queue are full, callers get a 503 immediately.
+     * Hashes at a different cost are rewritten on the next successful login.
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.bcrypt.strength:12}") int strength,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMs,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new TunableBCryptPasswordEncoder(strength), poolSize, queueCapacity, timeoutMs);
+        ExecutorServiceMetrics.monitor(meterRegistry, encoder.getExecutor(), "passwordHashing");
+        return encoder;
     }
 
     /**
@@ -0,0 +1,90 @@
+package com.example.demo.security;
+
+import com.example.demo.repository.TokenVersionProjection;
+import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revocation list for stateless JWT authentication.
+ *
+ * Holds the current token version of every account whose role or active
+ * status changed within the last token lifetime (jwt.expiration). Older
+ * changes can be forgotten: any token issued before them has expired.
+ * The map therefore stays small — its size is the number of admin role/ban
+ * actions per token lifetime, not the number of users.
+ *
+ * - Local changes are recorded by UserService after commit (immediate).
+ * - Changes made on other nodes are picked up by a DB poll every
+ * jwt.revocation-refresh-ms (default 5s).
+ *
+ * A token whose version is below the recorded one is stale; the filter
+ * then re-reads the account instead of trusting its claims. Seeing a newer
+ * version also evicts the account from CustomUserDetailsService's cache, so
+ * that re-read reflects the change on every node.
+ */
+@Component
+public class TokenVersionCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Value("${jwt.expiration}")
+    private long jwtExpiration;
+
+    private final Map<String, Entry> versions = new ConcurrentHashMap<>();
+
+    /**
+     * True when the token's version is at least the latest known version.
+     * Tokens without a version claim (issued before versioning) are never
+     * current, so they always take the DB path.
+     */
+    public boolean isCurrent(String email, Long tokenVersion) {
+        if (tokenVersion == null) {
+            return false;
+        }
+        Entry entry = versions.get(email);
+        return entry == null || tokenVersion >= entry.version();
+    }
+
+    /** Record a committed version change for this account. */
+    public void record(String email, long version) {
+        apply(email, new Entry(version, LocalDateTime.now()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation-refresh-ms:5000}",
+            initialDelayString = "${jwt.revocation-refresh-ms:5000}")
+    public void refresh() {
+        LocalDateTime horizon = LocalDateTime.now().minusNanos(jwtExpiration * 1_000_000L);
+        for (TokenVersionProjection row : userRepository.findTokenVersionsChangedSince(horizon)) {
+            apply(row.getEmail(), new Entry(row.getTokenVersion(), row.getChangedAt()));
+        }
+        versions.values().removeIf(e -> e.changedAt().isBefore(horizon));
+    }
+
+    private void apply(String email, Entry candidate) {
+        Entry merged = versions.merge(email, candidate, TokenVersionCache::newest);
+        if (merged == candidate) {
+            userDetailsService.evict(email);
+        }
+    }
+
+    private static Entry newest(Entry a, Entry b) {
+        return a.version() >= b.version() ? a : b;
+    }
+
+    private record Entry(long version, LocalDateTime changedAt) {
+    }
+}
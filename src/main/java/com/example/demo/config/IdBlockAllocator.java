@@ -0,0 +1,203 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out entity ids from blocks reserved in the id_sequences table.
+ *
+ * (P20) Each table has one row holding the next unreserved id. Reserving a
+ * block of id-sequences.block-size ids costs one UPDATE + SELECT; ids are
+ * then handed out from memory, so inserts can be batched (see @PooledId).
+ * Works the same on MySQL and H2 — neither needs sequence support.
+ *
+ * Blocks are reserved on a small pool of their own, committed
+ * independently of the caller's transaction. Borrowing a second
+ * connection from the main pool instead (what Hibernate's
+ * TableGenerator does) can exhaust it: every request thread holds one
+ * connection and waits for another. Here a thread waiting for a block
+ * waits on the block's lock, and the thread reserving it never holds
+ * anything else on this pool. That lock is a ReentrantLock, not a
+ * monitor, since it is held across the reservation's JDBC round trips.
+ *
+ * The first reservation for a table in this JVM also moves its row past
+ * MAX(id), so rows written with IDENTITY before this change, or inserted
+ * with explicit ids (seed scripts, benchmarks), are never reused. Counters
+ * only move forward. Ids left in a block at shutdown are skipped, and ids
+ * from different nodes interleave, so ids are unique and increase per
+ * node but are not gap-free.
+ */
+@Component
+public class IdBlockAllocator implements HibernatePropertiesCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdBlockAllocator.class);
+
+    /** Hibernate setting under which PooledIdGenerator finds this allocator. */
+    public static final String SETTING = "com.example.demo.id-block-allocator";
+
+    static final String TABLE = "id_sequences";
+
+    private static final String CREATE_SQL = "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+            + "sequence_name VARCHAR(100) NOT NULL, next_val BIGINT NOT NULL, PRIMARY KEY (sequence_name))";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE + " (sequence_name, next_val) VALUES (?, ?)";
+    private static final String RAISE_SQL = "UPDATE " + TABLE + " SET next_val = ? "
+            + "WHERE sequence_name = ? AND next_val < ?";
+    private static final String RESERVE_SQL = "UPDATE " + TABLE + " SET next_val = next_val + ? "
+            + "WHERE sequence_name = ?";
+    private static final String SELECT_SQL = "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ?";
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    // Keep equal to spring.jpa.properties.hibernate.jdbc.batch_size (or a multiple of it)
+    @Value("${id-sequences.block-size:50}")
+    private int blockSize;
+
+    @Value("${id-sequences.pool-size:2}")
+    private int poolSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private HikariDataSource dataSource;
+
+    @PostConstruct
+    public void init() {
+        dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("HackNationIdPool");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(1);
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_SQL);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not create " + TABLE, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(SETTING, this);
+    }
+
+    /** Next id for rows of the given table (whose primary key column is id). */
+    public long next(String table) {
+        return blocks.computeIfAbsent(table, Block::new).next();
+    }
+
+    // -------------------------------------------------------------------------
+    // Reservation
+    // -------------------------------------------------------------------------
+
+    private final class Block {
+        final String table;
+        final ReentrantLock lock = new ReentrantLock();
+        boolean aligned;
+        long next;
+        long end;
+
+        Block(String table) {
+            this.table = table;
+        }
+
+        long next() {
+            lock.lock();
+            try {
+                if (next == end) {
+                    try {
+                        if (!aligned) {
+                            align(table);
+                            aligned = true;
+                        }
+                        end = reserve(table);
+                        next = end - blockSize;
+                    } catch (SQLException e) {
+                        throw new DataAccessResourceFailureException("Could not reserve ids for " + table, e);
+                    }
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Creates the table's row if missing and moves it past MAX(id). */
+    private void align(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            long floor;
+            try (PreparedStatement max = connection.prepareStatement("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table);
+                    ResultSet rs = max.executeQuery()) {
+                rs.next();
+                floor = rs.getLong(1);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                insert.setString(1, table);
+                insert.setLong(2, floor);
+                insert.executeUpdate();
+                return;
+            } catch (SQLException e) {
+                if (e.getSQLState() == null || !e.getSQLState().startsWith("23")) {
+                    throw e;
+                }
+                // Row already exists (earlier run or another node): only raise it
+            }
+            try (PreparedStatement raise = connection.prepareStatement(RAISE_SQL)) {
+                raise.setLong(1, floor);
+                raise.setString(2, table);
+                raise.setLong(3, floor);
+                if (raise.executeUpdate() > 0) {
+                    logger.info("Id sequence '{}' moved past existing rows to {}", table, floor);
+                }
+            }
+        }
+    }
+
+    /** Reserves the next block; returns its exclusive upper bound. */
+    private long reserve(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement reserve = connection.prepareStatement(RESERVE_SQL);
+                    PreparedStatement select = connection.prepareStatement(SELECT_SQL)) {
+                reserve.setInt(1, blockSize);
+                reserve.setString(2, table);
+                reserve.executeUpdate();
+                select.setString(1, table);
+                long end;
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    end = rs.getLong(1);
+                }
+                connection.commit();
+                return end;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.AdminDashboardResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.HackathonResponse;
+import com.example.demo.dto.OrganizerDashboardResponse;
+import com.example.demo.dto.ProjectResponse;
 import com.example.demo.dto.UserResponse;
+import com.example.demo.model.HackathonStatus;
 import com.example.demo.model.User;
-import com.example.demo.repository.RegistrationRepository;
+import com.example.demo.service.AdminSnapshotService;
+import com.example.demo.service.DashboardAssembler;
 import com.example.demo.service.HackathonService;
 import com.example.demo.service.ProjectService;
 import com.example.demo.service.UserService;
@@ -14,8 +20,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,72 +45,89 @@ public class DashboardController {
         private UserService userService;
 
         @Autowired
-        private RegistrationRepository registrationRepository;
+        private DashboardAssembler dashboardAssembler;
+
+        @Autowired
+        private AdminSnapshotService adminSnapshotService;
 
         /**
          * GET /api/dashboard/participant
-         * Participant dashboard — their registrations and projects.
+         * Participant dashboard — their profile, projects, registrations and the
+         * hackathons still open to them.
+         * FIX (P12): Sections are fetched in parallel by DashboardAssembler;
+         * registrations are DTOs and only open, not-yet-joined hackathons are listed.
          */
         @GetMapping("/participant")
         @PreAuthorize("hasAnyRole('PARTICIPANT','ADMIN')")
         public ResponseEntity<Map<String, Object>> participantDashboard(
                         @AuthenticationPrincipal UserDetails currentUser) {
-
-                User user = userService.getUserByEmail(currentUser.getUsername());
-
-                Map<String, Object> dashboard = new HashMap<>();
-                // FIX (H2): Use explicit DTO mapping, not raw entity
-                dashboard.put("user", userService.toUserResponse(user));
-                dashboard.put("myProjects", projectService.getMyProjects(currentUser.getUsername()));
-                dashboard.put("registrations", registrationRepository.findByUserId(user.getId()));
-                dashboard.put("availableHackathons", hackathonService.getAllHackathons());
-
-                return ResponseEntity.ok(dashboard);
+                return ResponseEntity.ok(dashboardAssembler.participantDashboard(currentUser.getUsername()));
         }
 
         /**
          * GET /api/dashboard/organizer
          * Organizer dashboard — hackathons they created with aggregate stats.
+         * FIX (C4): Uses organizer's ID, not getAllHackathons()
+         * FIX (P14): Totals and per-hackathon breakdowns come from one grouped
+         * query — two statements in all, however many hackathons.
          */
         @GetMapping("/organizer")
         @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
-        public ResponseEntity<Map<String, Object>> organizerDashboard(
+        public ResponseEntity<OrganizerDashboardResponse> organizerDashboard(
                         @AuthenticationPrincipal UserDetails currentUser) {
 
                 User user = userService.getUserByEmail(currentUser.getUsername());
-                // FIX (C4): Uses organizer's ID, not getAllHackathons()
-                List<HackathonResponse> myHackathons = hackathonService.getHackathonsByOrganizer(user.getId());
-
-                Map<String, Object> dashboard = new HashMap<>();
-                dashboard.put("user", userService.toUserResponse(user));
-                dashboard.put("myHackathons", myHackathons);
-                dashboard.put("totalHackathonsCreated", myHackathons.size());
-                dashboard.put("totalParticipants",
-                                myHackathons.stream().mapToLong(HackathonResponse::getRegistrationCount).sum());
-                dashboard.put("totalProjects",
-                                myHackathons.stream().mapToLong(HackathonResponse::getProjectCount).sum());
-
+                OrganizerDashboardResponse dashboard = hackathonService.getOrganizerDashboard(user.getId());
+                dashboard.setUser(userService.toUserResponse(user));
                 return ResponseEntity.ok(dashboard);
         }
 
         /**
          * GET /api/dashboard/admin
-         * Admin dashboard — full platform overview.
-         * FIX (H2): allUsers now returns List<UserResponse>, not List<User>.
+         * Admin dashboard — platform totals and top-N sections.
+         * FIX (P13): Served from AdminSnapshotService's precomputed snapshot (no SQL
+         * per request); generatedAt says how fresh it is. The full lists moved to
+         * the paginated endpoints below.
          */
         @GetMapping("/admin")
         @PreAuthorize("hasRole('ADMIN')")
-        public ResponseEntity<Map<String, Object>> adminDashboard() {
-                Map<String, Object> dashboard = new HashMap<>();
-                dashboard.put("totalUsers", userService.countActiveUsers());
-                dashboard.put("totalHackathons", hackathonService.countAll());
-                dashboard.put("totalProjects", projectService.countAllProjects());
-                dashboard.put("totalRegistrations", registrationRepository.countTotalRegistrations());
-                // FIX (H2): Returns UserResponse DTOs, not raw User entities
-                dashboard.put("allUsers", userService.getAllUsers());
-                dashboard.put("allHackathons", hackathonService.getAllHackathons());
-                dashboard.put("leaderboard", projectService.getLeaderboard());
+        public ResponseEntity<AdminDashboardResponse> adminDashboard() {
+                return ResponseEntity.ok(adminSnapshotService.get());
+        }
 
-                return ResponseEntity.ok(dashboard);
+        /**
+         * GET /api/dashboard/admin/users?after=&limit=
+         * FIX (H2): Returns UserResponse DTOs, not raw User entities.
+         */
+        @GetMapping("/admin/users")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<CursorPage<UserResponse>> adminUsers(
+                        @RequestParam(required = false) String after,
+                        @RequestParam(required = false) Integer limit) {
+                return ResponseEntity.ok(userService.getUserPage(after, limit));
+        }
+
+        /**
+         * GET /api/dashboard/admin/hackathons?status=&after=&limit=
+         */
+        @GetMapping("/admin/hackathons")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<CursorPage<HackathonResponse>> adminHackathons(
+                        @RequestParam(required = false) HackathonStatus status,
+                        @RequestParam(required = false) String after,
+                        @RequestParam(required = false) Integer limit) {
+                return ResponseEntity.ok(hackathonService.getHackathonPage(status, after, limit));
+        }
+
+        /**
+         * GET /api/dashboard/admin/projects?hackathonId=&after=&limit=
+         */
+        @GetMapping("/admin/projects")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<CursorPage<ProjectResponse>> adminProjects(
+                        @RequestParam(required = false) Long hackathonId,
+                        @RequestParam(required = false) String after,
+                        @RequestParam(required = false) Integer limit) {
+                return ResponseEntity.ok(projectService.getProjectPage(hackathonId, after, limit));
         }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.EvaluationBatchRequest;
+import com.example.demo.dto.EvaluationBatchResponse;
 import com.example.demo.dto.EvaluationRequest;
 import com.example.demo.dto.ProjectResponse;
 import com.example.demo.service.ProjectService;
@@ -40,21 +43,39 @@ public class EvaluationController {
     }
 
     /**
-     * GET /api/evaluation/{hackathonId}/projects
-     * Get all projects for a hackathon (for judge review).
+     * POST /api/evaluation/{hackathonId}/evaluate/batch
+     * Evaluate up to 100 projects in one call. Judge only. Items that cannot
+     * be applied are listed under "errors"; the rest are saved.
+     */
+    @PostMapping("/{hackathonId}/evaluate/batch")
+    public ResponseEntity<EvaluationBatchResponse> evaluateProjects(
+            @PathVariable Long hackathonId,
+            @Valid @RequestBody EvaluationBatchRequest request,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        return ResponseEntity.ok(projectService.evaluateProjects(
+                hackathonId, request.getEvaluations(), currentUser.getUsername()));
+    }
+
+    /**
+     * GET /api/evaluation/{hackathonId}/projects?limit=20&after={cursor}
+     * Get projects for a hackathon (for judge review). Keyset-paginated by id.
      */
     @GetMapping("/{hackathonId}/projects")
-    public ResponseEntity<List<ProjectResponse>> getProjectsToEvaluate(
-            @PathVariable Long hackathonId) {
-        return ResponseEntity.ok(projectService.getAllProjects(hackathonId));
+    public ResponseEntity<CursorPage<ProjectResponse>> getProjectsToEvaluate(
+            @PathVariable Long hackathonId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getProjectPage(hackathonId, after, limit));
     }
 
     /**
-     * GET /api/evaluation/leaderboard
-     * Get leaderboard after evaluations.
+     * GET /api/evaluation/leaderboard?hackathonId=1&limit=20
+     * Get leaderboard after evaluations, globally or for one hackathon.
      */
     @GetMapping("/leaderboard")
-    public ResponseEntity<List<ProjectResponse>> getLeaderboard() {
-        return ResponseEntity.ok(projectService.getLeaderboard());
+    public ResponseEntity<List<ProjectResponse>> getLeaderboard(
+            @RequestParam(required = false) Long hackathonId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getLeaderboard(hackathonId, limit));
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ExportService;
+import com.example.demo.service.ExportService.Format;
+import com.example.demo.service.HackathonService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Organizer exports of participants and submissions.
+ *
+ * (P17) Responses are StreamingResponseBody: access is checked on the
+ * request thread, then rows are written from an async MVC thread as the
+ * database cursor yields them. Long exports are bounded by
+ * spring.mvc.async.request-timeout.
+ */
+@RestController
+@RequestMapping("/api/hackathons/{hackathonId}/export")
+@PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    /**
+     * GET /api/hackathons/{hackathonId}/export/registrations?format=csv|ndjson
+     * Every registration with participant name and email. Owner or admin only.
+     */
+    @GetMapping("/registrations")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @PathVariable Long hackathonId,
+            @RequestParam(required = false) String format,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        Format f = Format.parse(format);
+        hackathonService.checkOwnerOrAdmin(hackathonId, currentUser.getUsername());
+        return attachment("hackathon-" + hackathonId + "-registrations", f,
+                out -> exportService.writeRegistrations(hackathonId, f, out));
+    }
+
+    /**
+     * GET /api/hackathons/{hackathonId}/export/projects?format=csv|ndjson
+     * Every submitted project with submitter and evaluation. Owner or admin only.
+     */
+    @GetMapping("/projects")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @PathVariable Long hackathonId,
+            @RequestParam(required = false) String format,
+            @AuthenticationPrincipal UserDetails currentUser) {
+        Format f = Format.parse(format);
+        hackathonService.checkOwnerOrAdmin(hackathonId, currentUser.getUsername());
+        return attachment("hackathon-" + hackathonId + "-projects", f,
+                out -> exportService.writeProjects(hackathonId, f, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, Format format,
+            StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.extension()).build().toString())
+                .body(body);
+    }
+}
@@ -1,19 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.HackathonRequest;
 import com.example.demo.dto.HackathonResponse;
 import com.example.demo.model.HackathonStatus;
+import com.example.demo.service.HackathonResponseCache;
 import com.example.demo.service.HackathonService;
+import com.example.demo.service.ResourceVersions;
+import com.example.demo.service.ResourceVersions.Resource;
 import com.example.demo.service.UserService;
 import com.example.demo.model.User;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,30 +43,59 @@ public class HackathonController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Value("${conditional-get.db-window-ms:30000}")
+    private long dbWindowMs;
+
     // -------------------------------------------------------------------------
     // Public endpoints
     // -------------------------------------------------------------------------
 
     /**
-     * GET /api/hackathons
-     * Get all hackathons, optionally filtered by status. Public.
+     * GET /api/hackathons?status=ACTIVE&limit=20&after={cursor}
+     * Get hackathons, optionally filtered by status. Public.
+     * Keyset-paginated, ordered by start date then id; pass the returned
+     * nextCursor as `after` to fetch the next page.
+     *
+     * (P23) Conditional: the ETag and Last-Modified come from the versions
+     * of everything a page shows (hackathons, organizer names, registration
+     * and project counts), so an unchanged poll gets 304 without a query.
+     * The ETag also rolls over every conditional-get.db-window-ms to pick
+     * up writes made by other nodes.
      */
     @GetMapping
-    public ResponseEntity<List<HackathonResponse>> getAllHackathons(
-            @RequestParam(required = false) HackathonStatus status) {
-        List<HackathonResponse> hackathons = status != null
-                ? hackathonService.getHackathonsByStatus(status)
-                : hackathonService.getAllHackathons();
-        return ResponseEntity.ok(hackathons);
+    public ResponseEntity<CursorPage<HackathonResponse>> getAllHackathons(
+            @RequestParam(required = false) HackathonStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        ResourceVersions.Validators validators = resourceVersions.validators("hackathons", dbWindowMs,
+                Resource.HACKATHONS, Resource.REGISTRATIONS, Resource.PROJECTS, Resource.USERS);
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(hackathonService.getHackathonPage(status, after, limit));
     }
 
     /**
      * GET /api/hackathons/{id}
      * Get a hackathon by ID. Public.
+     *
+     * (P22) Served from HackathonResponseCache with a strong ETag; clients
+     * that send it back in If-None-Match get 304 with no body while the
+     * hackathon is unchanged (Spring compares it when writing the entity).
      */
     @GetMapping("/{id}")
     public ResponseEntity<HackathonResponse> getHackathonById(@PathVariable Long id) {
-        return ResponseEntity.ok(hackathonService.getHackathonById(id));
+        HackathonResponseCache.Snapshot snapshot = hackathonService.getHackathonSnapshot(id);
+        return ResponseEntity.ok()
+                .eTag(snapshot.eTag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.response());
     }
 
     // -------------------------------------------------------------------------
@@ -1,16 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.LeaderboardRank;
 import com.example.demo.dto.ProjectRequest;
 import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.TechStackFacets;
+import com.example.demo.service.LeaderboardStream;
 import com.example.demo.service.ProjectService;
+import com.example.demo.service.ResourceVersions;
+import com.example.demo.service.ResourceVersions.Resource;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -30,6 +40,12 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private LeaderboardStream leaderboardStream;
+
     /**
      * POST /api/projects
      * Submit a project. Participant only.
@@ -44,14 +60,16 @@ public class ProjectController {
     }
 
     /**
-     * GET /api/projects
-     * Get all projects, optionally filtered by hackathon.
+     * GET /api/projects?hackathonId=1&limit=20&after={cursor}
+     * Get projects, optionally filtered by hackathon. Keyset-paginated by id.
      * FIX (M7): Requires authentication — project data is not public.
      */
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getAllProjects(
-            @RequestParam(required = false) Long hackathonId) {
-        return ResponseEntity.ok(projectService.getAllProjects(hackathonId));
+    public ResponseEntity<CursorPage<ProjectResponse>> getAllProjects(
+            @RequestParam(required = false) Long hackathonId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getProjectPage(hackathonId, after, limit));
     }
 
     /**
@@ -65,14 +83,62 @@ public class ProjectController {
     }
 
     /**
-     * GET /api/projects/leaderboard
-     * Top projects sorted by score descending.
+     * GET /api/projects/leaderboard?hackathonId=1&limit=20
+     * Top projects sorted by score descending, globally or for one hackathon.
+     * Served from the in-memory LeaderboardEngine.
      * NOTE: Public access retained for landing-page use, but only exposes
      * title, score, hackathon name (sensitive feedback is not in this view).
      * If you want it private, add @PreAuthorize here.
+     * (P23) Conditional: the ETag follows the project and hackathon versions
+     * the engine is updated from; an unchanged poll gets 304, no body.
      */
     @GetMapping("/leaderboard")
-    public ResponseEntity<List<ProjectResponse>> getLeaderboard() {
-        return ResponseEntity.ok(projectService.getLeaderboard());
+    public ResponseEntity<List<ProjectResponse>> getLeaderboard(
+            @RequestParam(required = false) Long hackathonId,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        ResourceVersions.Validators validators = resourceVersions.validators("leaderboard",
+                Resource.PROJECTS, Resource.HACKATHONS);
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(projectService.getLeaderboard(hackathonId, limit));
+    }
+
+    /**
+     * GET /api/projects/leaderboard/stream?hackathonId=1
+     * Live top-N of one hackathon as Server-Sent Events: a "snapshot" event
+     * on connect, then coalesced "delta" events as projects are submitted
+     * and evaluated (see LeaderboardStream). Public, like the leaderboard.
+     */
+    @GetMapping(path = "/leaderboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeaderboard(@RequestParam Long hackathonId) {
+        return leaderboardStream.subscribe(hackathonId);
+    }
+
+    /**
+     * GET /api/projects/tech-stack?hackathonId=1&tag=react&tag=java&limit=20&after={cursor}
+     * Tag counts for a hackathon's projects plus the projects using every
+     * selected tag (comma-separated tags work too). Counts reflect the
+     * selection, so clients can drill down. Served from TechStackIndex.
+     */
+    @GetMapping("/tech-stack")
+    public ResponseEntity<TechStackFacets> getTechStackFacets(
+            @RequestParam Long hackathonId,
+            @RequestParam(name = "tag", required = false) List<String> tags,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getTechStackFacets(hackathonId, tags, after, limit));
+    }
+
+    /**
+     * GET /api/projects/{id}/rank
+     * Global and per-hackathon rank of a single project.
+     */
+    @GetMapping("/{id}/rank")
+    public ResponseEntity<LeaderboardRank> getProjectRank(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.getRank(id));
     }
-}
\ No newline at end of file
+}
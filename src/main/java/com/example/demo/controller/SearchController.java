@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.SearchHit;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.ProjectStatus;
+import com.example.demo.service.PageCursor;
+import com.example.demo.service.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search Controller — full-text search over hackathons and projects.
+ * (P15) Served from the embedded SearchIndex, replacing the unindexed
+ * LIKE '%keyword%' scan.
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    /**
+     * GET /api/search?q=robot%20hack&type=hackathon&status=UPCOMING&hackathonId=&limit=20
+     * Relevance-ranked; each word matches as a whole word or a prefix.
+     * type is "hackathon" or "project"; status is a HackathonStatus or
+     * ProjectStatus name; hackathonId restricts to that hackathon's projects.
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long hackathonId,
+            @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        String normalizedType = type == null ? null : type.toLowerCase(Locale.ROOT);
+        if (normalizedType != null && !normalizedType.equals(SearchIndex.TYPE_HACKATHON)
+                && !normalizedType.equals(SearchIndex.TYPE_PROJECT)) {
+            throw new BadRequestException("Invalid value '" + type + "' for parameter 'type'");
+        }
+        String normalizedStatus = status == null ? null : status.toUpperCase(Locale.ROOT);
+        if (normalizedStatus != null && !isStatus(normalizedStatus)) {
+            throw new BadRequestException("Invalid value '" + status + "' for parameter 'status'");
+        }
+        return ResponseEntity.ok(searchIndex.search(q, normalizedType, normalizedStatus, hackathonId,
+                PageCursor.clampLimit(limit)));
+    }
+
+    private static boolean isStatus(String value) {
+        return Arrays.stream(HackathonStatus.values()).anyMatch(s -> s.name().equals(value))
+                || Arrays.stream(ProjectStatus.values()).anyMatch(s -> s.name().equals(value));
+    }
+}
@@ -1,52 +1,46 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.StatsResponse;
-import com.example.demo.model.HackathonStatus;
-import com.example.demo.repository.RegistrationRepository;
-import com.example.demo.repository.UserRepository;
-import com.example.demo.service.HackathonService;
-import com.example.demo.service.ProjectService;
+import com.example.demo.service.ResourceVersions;
+import com.example.demo.service.ResourceVersions.Resource;
+import com.example.demo.service.StatsCounterService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Stats Controller — landing page statistics.
  * Fixed: was returning unrelated leaderboard/fatigue/participant data.
  * Now returns actual platform stats for the landing page.
+ * (P4) Served from in-memory counters — no COUNT queries per request.
+ * (P23) Conditional: polls that revalidate get 304 while no counter moved.
  */
 @RestController
 @RequestMapping("/api/stats")
 public class StatsController {
 
     @Autowired
-    private UserRepository userRepository;
+    private StatsCounterService statsCounterService;
 
     @Autowired
-    private HackathonService hackathonService;
-
-    @Autowired
-    private ProjectService projectService;
-
-    @Autowired
-    private RegistrationRepository registrationRepository;
+    private ResourceVersions resourceVersions;
 
     /**
      * GET /api/stats
      * Platform-wide statistics for landing page. Public endpoint.
+     * Carries an ETag and Last-Modified derived from ResourceVersions;
+     * a matching If-None-Match / If-Modified-Since gets 304, no body.
      */
     @GetMapping
-    public ResponseEntity<StatsResponse> getStats() {
-        StatsResponse stats = StatsResponse.builder()
-                .totalUsers(userRepository.count())
-                .totalHackathons(hackathonService.countAll())
-                .activeHackathons(hackathonService.countByStatus(HackathonStatus.ACTIVE))
-                .upcomingHackathons(hackathonService.countByStatus(HackathonStatus.UPCOMING))
-                .completedHackathons(hackathonService.countByStatus(HackathonStatus.COMPLETED))
-                .totalProjects(projectService.countAllProjects())
-                .totalRegistrations(registrationRepository.countTotalRegistrations())
-                .build();
-
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<StatsResponse> getStats(WebRequest request) {
+        ResourceVersions.Validators validators = resourceVersions.validators("stats", Resource.values());
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(statsCounterService.snapshot());
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,23 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.UserImportReport;
 import com.example.demo.dto.UserResponse;
 import com.example.demo.model.Role;
+import com.example.demo.service.ExportService.Format;
+import com.example.demo.service.UserImportService;
 import com.example.demo.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * User REST Controller — profile and admin operations.
@@ -29,6 +36,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserImportService userImportService;
+
     /**
      * GET /api/users/me
      * Authenticated user's own profile.
@@ -42,14 +52,16 @@ public class UserController {
     }
 
     /**
-     * GET /api/users/all
-     * All users — Admin only.
-     * FIX (H2): Returns List<UserResponse>, not List<User>.
+     * GET /api/users/all?limit=20&after={cursor}
+     * All users — Admin only. Keyset-paginated by id.
+     * FIX (H2): Returns UserResponse DTOs, not User entities.
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.getUserPage(after, limit));
     }
 
     /**
@@ -86,4 +98,20 @@ public class UserController {
             @RequestParam boolean active) {
         return ResponseEntity.ok(userService.setUserActive(id, active));
     }
-}
\ No newline at end of file
+
+    /**
+     * POST /api/users/import   (Content-Type: text/csv or application/x-ndjson)
+     * Bulk-create users — Admin only. CSV needs a header row (name, email,
+     * password or password_hash, college, role). Valid rows are imported
+     * even when others are rejected; the report lists every rejected row.
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportReport> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.parseMediaType(Format.NDJSON.mediaType())) ? Format.NDJSON : Format.CSV;
+        return ResponseEntity.ok(userImportService.importUsers(body, format));
+    }
+}
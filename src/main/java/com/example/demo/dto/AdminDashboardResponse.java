@@ -0,0 +1,32 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.Role;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed admin dashboard. Full user / hackathon / project lists are
+ * served by the paginated /api/dashboard/admin/* sub-endpoints.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminDashboardResponse {
+    private LocalDateTime generatedAt;
+    private long generationMillis;
+
+    private long totalUsers;
+    private long totalHackathons;
+    private long totalProjects;
+    private long totalRegistrations;
+    private Map<Role, Long> usersByRole;
+    private Map<HackathonStatus, Long> hackathonsByStatus;
+
+    private List<HackathonResponse> upcomingHackathons;
+    private List<ProjectResponse> leaderboard;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+/**
+ * An evaluation from a batch that was not applied. index is the 0-based
+ * position in the request's evaluations list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationBatchError {
+    private int index;
+    private Long projectId;
+    private String message;
+}
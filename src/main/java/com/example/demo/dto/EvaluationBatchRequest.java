@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Several evaluations for one hackathon, applied in one transaction.
+ * Field errors are reported per item (e.g. "evaluations[3].score").
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationBatchRequest {
+
+    @NotEmpty(message = "At least one evaluation is required")
+    @Size(max = 100, message = "At most 100 evaluations per batch")
+    private List<@Valid @NotNull EvaluationRequest> evaluations;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch evaluation: the updated projects in request order and
+ * the items that were skipped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationBatchResponse {
+    private int requested;
+    private int evaluated;
+    private int failed;
+    private List<ProjectResponse> results;
+    private List<EvaluationBatchError> errors;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.ProjectStatus;
+import lombok.*;
+
+/**
+ * One row of a streamed hackathon leaderboard. Ranks are 1-based.
+ * Only public fields — no feedback or evaluator.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntry {
+    private int rank;
+    private Long projectId;
+    private String title;
+    private String submittedByName;
+    private Integer score;
+    private ProjectStatus status;
+}
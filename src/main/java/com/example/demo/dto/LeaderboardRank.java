@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+/**
+ * Position of a single project on the global and per-hackathon leaderboards.
+ * Ranks are 1-based.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardRank {
+    private Long projectId;
+    private Long hackathonId;
+    private Integer score;
+    private int globalRank;
+    private int globalTotal;
+    private int hackathonRank;
+    private int hackathonTotal;
+}
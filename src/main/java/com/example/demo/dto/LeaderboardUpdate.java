@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Payload of a leaderboard stream event.
+ *
+ * "snapshot" (sent on connect) lists the whole top-N in rank order.
+ * "delta" lists only rows that entered the top-N or whose rank, score or
+ * status changed, plus the ids of rows that dropped out of it. Clients
+ * upsert entries by projectId and delete removed ids; sequence grows by
+ * one per delta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardUpdate {
+    private Long hackathonId;
+    private long sequence;
+    private List<LeaderboardEntry> entries;
+    private List<Long> removed;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.ProjectStatus;
+import com.example.demo.model.RegistrationStatus;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Organizer dashboard: totals across all of the organizer's hackathons plus
+ * the per-hackathon breakdown they were summed from.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizerDashboardResponse {
+    private UserResponse user;
+    private int totalHackathonsCreated;
+    private long totalParticipants;
+    private long totalProjects;
+    private Map<RegistrationStatus, Long> registrationsByStatus;
+    private Map<ProjectStatus, Long> projectsByStatus;
+    private Double averageScore;
+    private List<OrganizerHackathonStats> myHackathons;
+}
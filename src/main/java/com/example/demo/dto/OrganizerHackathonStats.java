@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.ProjectStatus;
+import com.example.demo.model.RegistrationStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One hackathon's row on the organizer dashboard: every HackathonResponse
+ * field, plus the per-status breakdowns and score figures.
+ * registrationCount excludes CANCELLED, matching HackathonResponse.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizerHackathonStats {
+    private Long id;
+    private String name;
+    private String description;
+    private String location;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer maxParticipants;
+    private Double prizeAmount;
+    private HackathonStatus status;
+    private String organizerName;
+    private Long organizerId;
+    private long registrationCount;
+    private long projectCount;
+    private LocalDateTime createdAt;
+    private Map<RegistrationStatus, Long> registrationsByStatus;
+    private Map<ProjectStatus, Long> projectsByStatus;
+    private long evaluatedProjects;
+    private Double averageScore;
+}
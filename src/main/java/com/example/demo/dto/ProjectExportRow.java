@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.ProjectStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a hackathon's submission export. Built by a JPQL constructor
+ * expression, so streamed rows never enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectExportRow {
+    private Long projectId;
+    private String title;
+    private String techStack;
+    private String githubUrl;
+    private String demoUrl;
+    private Integer score;
+    private ProjectStatus status;
+    private Long submittedById;
+    private String submittedByName;
+    private String submittedByEmail;
+    private LocalDateTime submittedAt;
+    private String evaluatedBy;
+    private LocalDateTime evaluatedAt;
+}
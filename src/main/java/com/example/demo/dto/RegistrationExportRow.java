@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.RegistrationStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a hackathon's participant export. Built by a JPQL constructor
+ * expression, so streamed rows never enter the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationExportRow {
+    private Long registrationId;
+    private Long userId;
+    private String userName;
+    private String userEmail;
+    private RegistrationStatus status;
+    private String teamName;
+    private LocalDateTime registeredAt;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.RegistrationStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a registration. Replaces serialising the Registration
+ * entity, whose lazy user/hackathon proxies either trigger extra selects
+ * or fail outside a session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationResponse {
+    private Long id;
+    private Long hackathonId;
+    private String hackathonName;
+    private RegistrationStatus status;
+    private String teamName;
+    private LocalDateTime registeredAt;
+}
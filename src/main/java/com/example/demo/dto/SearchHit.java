@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+/**
+ * One /api/search result. type is "hackathon" or "project"; the
+ * hackathonId / hackathonName fields are set for projects only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHit {
+    private String type;
+    private Long id;
+    private String title;
+    private String status;
+    private String location;
+    private String techStack;
+    private Long hackathonId;
+    private String hackathonName;
+    private float score;
+}
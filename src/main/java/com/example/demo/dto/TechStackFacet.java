@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+/**
+ * One tech-stack tag and how many projects in the current selection use it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechStackFacet {
+    private String tag;
+    private int count;
+}
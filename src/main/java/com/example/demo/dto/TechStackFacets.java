@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Tech-stack facets for one hackathon.
+ *
+ * selectedTags are the normalised filter tags (all must match).
+ * facets counts every tag among the matching projects, most used first,
+ * so clients can show "React (12) · Java (7)" and drill down further.
+ * projects is the first page of the matching projects, oldest first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechStackFacets {
+    private Long hackathonId;
+    private List<String> selectedTags;
+    private int matchingProjects;
+    private List<TechStackFacet> facets;
+    private CursorPage<ProjectResponse> projects;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+/**
+ * A rejected import row. row is the 1-based data row (CSV header excluded)
+ * or NDJSON line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportError {
+    private long row;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of an admin bulk user import.
+ *
+ * totalRows = imported + failed. errors lists rejected rows in file order,
+ * capped at admin.user-import.max-reported-errors (errorsTruncated is then
+ * true; failed still counts every rejected row).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportReport {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private long durationMillis;
+    private boolean errorsTruncated;
+    @Builder.Default
+    private List<UserImportError> errors = new ArrayList<>();
+}
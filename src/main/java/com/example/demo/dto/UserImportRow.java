@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * One user in an admin bulk import (a CSV record or an NDJSON line).
+ *
+ * Exactly one of password (plain text, hashed during the import) or
+ * passwordHash (an existing BCrypt hash, stored as is) must be present.
+ * role defaults to PARTICIPANT; ADMIN accounts cannot be imported.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportRow {
+
+    @NotBlank(message = "Name is required")
+    @Size(min = 2, max = 100, message = "Name must be 2-100 characters")
+    private String name;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be a valid email address")
+    @Size(max = 150, message = "Email must not exceed 150 characters")
+    private String email;
+
+    @Size(min = 8, max = 72, message = "Password must be 8-72 characters")
+    private String password;
+
+    private String passwordHash;
+
+    @Size(max = 150, message = "College name must not exceed 150 characters")
+    private String college;
+
+    private String role;
+}
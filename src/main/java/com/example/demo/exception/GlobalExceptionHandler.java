@@ -3,6 +3,7 @@ package com.example.demo.exception;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -94,6 +95,16 @@ public class GlobalExceptionHandler {
                 "A duplicate record already exists. Please check your input.");
     }
 
+    // ── 503 Service Unavailable (login executor saturated) ───────────────────
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        ResponseEntity<Map<String, Object>> error = buildError(HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable", ex.getMessage());
+        return ResponseEntity.status(error.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error.getBody());
+    }
+
     // ── 500 Internal Server Error (catch-all) ─────────────────────────────────
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleAllExceptions(Exception ex) {
@@ -0,0 +1,26 @@
+package com.example.demo.model;
+
+/**
+ * Kinds of domain events recorded in the outbox, each with the aggregate
+ * whose id it is keyed (and ordered) by.
+ */
+public enum DomainEventType {
+    USER_REGISTERED("USER"),
+    HACKATHON_CREATED("HACKATHON"),
+    HACKATHON_UPDATED("HACKATHON"),
+    HACKATHON_DELETED("HACKATHON"),
+    PARTICIPANT_REGISTERED("HACKATHON"),
+    HACKATHON_STATUS_CHANGED("HACKATHON"),
+    PROJECT_SUBMITTED("PROJECT"),
+    PROJECT_EVALUATED("PROJECT");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
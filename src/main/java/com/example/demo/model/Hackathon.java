@@ -12,7 +12,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "hackathons", indexes = {
-        @Index(name = "idx_hackathon_status", columnList = "status")
+        @Index(name = "idx_hackathon_status", columnList = "status"),
+        @Index(name = "idx_hackathon_start_id", columnList = "start_date, id"),
+        @Index(name = "idx_hackathon_status_start_id", columnList = "status, start_date, id")
 })
 @Data
 @NoArgsConstructor
@@ -21,7 +23,7 @@ import java.util.List;
 public class Hackathon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @NotBlank(message = "Hackathon name is required")
@@ -78,6 +80,11 @@ public class Hackathon {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Seats admitted so far; written only by HackathonRepository.takeSeat(),
+    // never through the entity. NULL until the first registration seeds it.
+    @Column(name = "seats_taken", insertable = false, updatable = false)
+    private Integer seatsTaken;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
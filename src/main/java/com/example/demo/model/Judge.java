@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
 public class Judge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
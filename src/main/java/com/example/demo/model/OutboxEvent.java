@@ -0,0 +1,83 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event written in the same transaction as the change it
+ * describes, and relayed by OutboxDispatcher after commit.
+ *
+ * sequence numbers the events of one aggregate 1, 2, 3... in commit
+ * order (see OutboxSequence); ids come from per-node id blocks and do not
+ * order events across nodes.
+ *
+ * Pending = not dispatched and not parked. An event whose delivery failed
+ * outbox.dispatcher.max-attempts times is parked (failedAt set) and no
+ * longer retried; clear failed_at to retry it.
+ *
+ * origin is the node that wrote the event, dispatchedBy the node that
+ * relayed it. deliveryPosition numbers dispatched events 1, 2, 3... across
+ * all aggregates in the order they were relayed (see OutboxLease); the
+ * other nodes' OutboxFollowers replay them in that order.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "dispatched_at, failed_at, id"),
+        @Index(name = "idx_outbox_aggregate_sequence", columnList = "aggregate_type, aggregate_id, sequence_number",
+                unique = true),
+        @Index(name = "idx_outbox_delivery_position", columnList = "delivery_position", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @PooledId
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private DomainEventType eventType;
+
+    // JSON object
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(length = 36)
+    private String origin;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    @Column(name = "dispatched_by", length = 36)
+    private String dispatchedBy;
+
+    @Column(name = "delivery_position")
+    private Long deliveryPosition;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,37 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease one node at a time may hold ("dispatcher": the right to
+ * relay outbox events). Taken and renewed by OutboxDispatcher with plain
+ * JDBC; mapped only so the schema is generated with the rest.
+ *
+ * owner is the holder's NodeIdentity. Another node may take the lease once
+ * expiresAt has passed. lastPosition is the last OutboxEvent
+ * deliveryPosition handed out; only the holder advances it.
+ */
+@Entity
+@Table(name = "outbox_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxLease {
+
+    @Id
+    @Column(length = 40)
+    private String name;
+
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "last_position", nullable = false)
+    private long lastPosition;
+}
@@ -0,0 +1,28 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Last outbox sequence number handed out for one aggregate
+ * ("HACKATHON:42"). Read and advanced by DomainEvents with plain JDBC;
+ * mapped only so the schema is generated with the rest.
+ *
+ * The row stays locked from that UPDATE until the writing transaction
+ * commits, so an aggregate's sequence numbers follow commit order.
+ */
+@Entity
+@Table(name = "outbox_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxSequence {
+
+    @Id
+    @Column(name = "aggregate_key", length = 40)
+    private String aggregateKey;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
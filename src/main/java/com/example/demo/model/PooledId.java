@@ -0,0 +1,23 @@
+package com.example.demo.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Entity id drawn from a block reserved in the id_sequences table (one row
+ * per entity table) — see IdBlockAllocator.
+ *
+ * (P20) Replaces GenerationType.IDENTITY: an IDENTITY insert has to run
+ * immediately to learn its key, which stops Hibernate from batching
+ * inserts. Ids assigned before the INSERT let hibernate.jdbc.batch_size
+ * and order_inserts take effect.
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface PooledId {
+}
@@ -0,0 +1,35 @@
+package com.example.demo.model;
+
+import com.example.demo.config.IdBlockAllocator;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * Hibernate side of @PooledId: hands each new entity the next id of its
+ * table's block. The allocator is passed in through the Hibernate settings
+ * (IdBlockAllocator is a HibernatePropertiesCustomizer).
+ */
+public class PooledIdGenerator implements IdentifierGenerator {
+
+    private final IdBlockAllocator allocator;
+    private final String segment;
+
+    public PooledIdGenerator(PooledId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object allocator = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSettings().get(IdBlockAllocator.SETTING);
+        if (!(allocator instanceof IdBlockAllocator)) {
+            throw new IllegalStateException("@PooledId requires an IdBlockAllocator in the Hibernate settings");
+        }
+        this.allocator = (IdBlockAllocator) allocator;
+        this.segment = context.getPersistentClass().getTable().getName();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object entity) {
+        return allocator.next(segment);
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Table(name = "projects", indexes = {
         @Index(name = "idx_project_hackathon", columnList = "hackathon_id"),
         @Index(name = "idx_project_status", columnList = "status"),
-        @Index(name = "idx_project_score", columnList = "score")
+        @Index(name = "idx_project_score", columnList = "score"),
+        @Index(name = "idx_project_hackathon_rank", columnList = "hackathon_id, score DESC, submitted_at, id")
 })
 @Data
 @NoArgsConstructor
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @NotBlank(message = "Project title is required")
@@ -11,7 +11,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "users", indexes = {
-        @Index(name = "idx_user_email", columnList = "email", unique = true)
+        @Index(name = "idx_user_email", columnList = "email", unique = true),
+        @Index(name = "idx_user_token_version_changed", columnList = "token_version_changed_at")
 })
 @Data
 @NoArgsConstructor
@@ -20,7 +21,7 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -56,6 +57,17 @@ public class User {
     @Builder.Default
     private boolean active = true;
 
+    // Embedded in issued JWTs; bumped whenever role or active status changes
+    // so tokens issued before the change are recognised as stale.
+    @Column(name = "token_version", nullable = false)
+    @JsonIgnore
+    @Builder.Default
+    private long tokenVersion = 0L;
+
+    @Column(name = "token_version_changed_at")
+    @JsonIgnore
+    private LocalDateTime tokenVersionChangedAt;
+
     // Registrations done by this user
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
@@ -72,4 +84,9 @@ public class User {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    public void bumpTokenVersion() {
+        this.tokenVersion++;
+        this.tokenVersionChangedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -2,25 +2,133 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Hackathon;
 import com.example.demo.model.HackathonStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface HackathonRepository extends JpaRepository<Hackathon, Long> {
 
+    // Shared SELECT list for listing queries: organizer is joined once and the
+    // two counts are correlated sub-selects, so the whole listing is a single
+    // round-trip regardless of how many hackathons are returned.
+    String SUMMARY_SELECT = "SELECT h.id AS id, h.name AS name, h.description AS description, " +
+            "h.location AS location, h.startDate AS startDate, h.endDate AS endDate, " +
+            "h.maxParticipants AS maxParticipants, h.prizeAmount AS prizeAmount, h.status AS status, " +
+            "o.name AS organizerName, o.id AS organizerId, " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.hackathon = h " +
+            "AND r.status <> com.example.demo.model.RegistrationStatus.CANCELLED) AS registrationCount, " +
+            "(SELECT COUNT(p) FROM Project p WHERE p.hackathon = h) AS projectCount, " +
+            "h.createdAt AS createdAt " +
+            "FROM Hackathon h LEFT JOIN h.organizer o ";
+
+    // Active registrations, for seeding seats_taken
+    String ACTIVE_REGISTRATIONS = "(SELECT COUNT(*) FROM registrations r WHERE r.hackathon_id = h.id " +
+            "AND r.status <> 'CANCELLED')";
+
+    // Takes one seat if one is left; returns 0 when the hackathon is full.
+    // The row stays locked until the registering transaction ends, so the
+    // cap holds across app instances.
+    @Modifying
+    @Query(value = "UPDATE hackathons h SET seats_taken = COALESCE(h.seats_taken, " + ACTIVE_REGISTRATIONS + ") + 1 " +
+            "WHERE h.id = :id AND COALESCE(h.seats_taken, " + ACTIVE_REGISTRATIONS + ") < h.max_participants",
+            nativeQuery = true)
+    int takeSeat(@Param("id") Long id);
+
     List<Hackathon> findByStatus(HackathonStatus status);
 
     List<Hackathon> findByOrganizerId(Long organizerId);
 
     List<Hackathon> findByStatusOrderByStartDateAsc(HackathonStatus status);
 
+    // Unindexed LIKE scan — superseded by SearchIndex; kept as the benchmark baseline.
     @Query("SELECT h FROM Hackathon h WHERE h.name LIKE %:keyword% OR h.description LIKE %:keyword%")
     List<Hackathon> searchByKeyword(@Param("keyword") String keyword);
 
+    // Keyset batches for the search index rebuild; sort contract is (id ASC).
+    List<Hackathon> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY h.id")
+    List<HackathonSummaryProjection> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE h.status = :status ORDER BY h.id")
+    List<HackathonSummaryProjection> findSummariesByStatus(@Param("status") HackathonStatus status);
+
+    @Query(SUMMARY_SELECT + "WHERE o.id = :organizerId ORDER BY h.id")
+    List<HackathonSummaryProjection> findSummariesByOrganizerId(@Param("organizerId") Long organizerId);
+
+    // Hackathons in the given statuses the user has not registered for, soonest first.
+    @Query(SUMMARY_SELECT + "WHERE h.status IN :statuses AND NOT EXISTS (" +
+            "SELECT 1 FROM Registration ur WHERE ur.hackathon = h AND ur.user.email = :email) " +
+            "ORDER BY h.startDate, h.id")
+    List<HackathonSummaryProjection> findSummariesOpenTo(@Param("statuses") Collection<HackathonStatus> statuses,
+            @Param("email") String email, Pageable pageable);
+
+    // Keyset pagination — sort contract is (startDate ASC, id ASC).
+    // The first page and the "after" pages, with and without a status, are
+    // separate statements so each range predicate stays sargable: on
+    // idx_hackathon_start_id, or idx_hackathon_status_start_id when filtered.
+    @Query(SUMMARY_SELECT + "ORDER BY h.startDate, h.id")
+    List<HackathonSummaryProjection> findSummaryPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE h.status = :status ORDER BY h.startDate, h.id")
+    List<HackathonSummaryProjection> findSummaryPageByStatus(@Param("status") HackathonStatus status,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE h.startDate > :afterDate OR (h.startDate = :afterDate AND h.id > :afterId) " +
+            "ORDER BY h.startDate, h.id")
+    List<HackathonSummaryProjection> findSummaryPageAfter(@Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE h.status = :status " +
+            "AND (h.startDate > :afterDate OR (h.startDate = :afterDate AND h.id > :afterId)) " +
+            "ORDER BY h.startDate, h.id")
+    List<HackathonSummaryProjection> findSummaryPageByStatusAfter(@Param("status") HackathonStatus status,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Organizer dashboard: per-hackathon breakdowns in one grouped statement.
+    // Projects are aggregated over the LEFT JOIN; registrations use correlated
+    // sub-selects so the two child tables never multiply each other's rows.
+    @Query("SELECT h.id AS id, h.name AS name, h.description AS description, h.location AS location, " +
+            "h.status AS status, h.startDate AS startDate, h.endDate AS endDate, " +
+            "h.maxParticipants AS maxParticipants, h.prizeAmount AS prizeAmount, " +
+            "o.name AS organizerName, o.id AS organizerId, h.createdAt AS createdAt, " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.hackathon = h " +
+            "AND r.status = com.example.demo.model.RegistrationStatus.REGISTERED) AS registered, " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.hackathon = h " +
+            "AND r.status = com.example.demo.model.RegistrationStatus.CONFIRMED) AS confirmed, " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.hackathon = h " +
+            "AND r.status = com.example.demo.model.RegistrationStatus.CANCELLED) AS cancelled, " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.hackathon = h " +
+            "AND r.status = com.example.demo.model.RegistrationStatus.DISQUALIFIED) AS disqualified, " +
+            "SUM(CASE WHEN p.status = com.example.demo.model.ProjectStatus.SUBMITTED THEN 1 ELSE 0 END) AS submitted, " +
+            "SUM(CASE WHEN p.status = com.example.demo.model.ProjectStatus.UNDER_REVIEW THEN 1 ELSE 0 END) AS underReview, " +
+            "SUM(CASE WHEN p.status = com.example.demo.model.ProjectStatus.ACCEPTED THEN 1 ELSE 0 END) AS accepted, " +
+            "SUM(CASE WHEN p.status = com.example.demo.model.ProjectStatus.REJECTED THEN 1 ELSE 0 END) AS rejected, " +
+            "SUM(CASE WHEN p.status = com.example.demo.model.ProjectStatus.WINNER THEN 1 ELSE 0 END) AS winner, " +
+            "COUNT(p.evaluatedAt) AS evaluated, " +
+            "AVG(CASE WHEN p.evaluatedAt IS NOT NULL THEN p.score END) AS averageScore " +
+            "FROM Hackathon h JOIN h.organizer o LEFT JOIN Project p ON p.hackathon = h " +
+            "WHERE o.id = :organizerId " +
+            "GROUP BY h.id, h.name, h.description, h.location, h.status, h.startDate, h.endDate, " +
+            "h.maxParticipants, h.prizeAmount, o.name, o.id, h.createdAt " +
+            "ORDER BY h.startDate, h.id")
+    List<OrganizerHackathonStatsProjection> findOrganizerStats(@Param("organizerId") Long organizerId);
+
     @Query("SELECT COUNT(h) FROM Hackathon h WHERE h.status = :status")
     long countByStatus(@Param("status") HackathonStatus status);
+
+    // Rows of [HackathonStatus, Long]
+    @Query("SELECT h.status, COUNT(h) FROM Hackathon h GROUP BY h.status")
+    List<Object[]> countGroupedByStatus();
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.HackathonStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection interface for hackathon listings — one row per hackathon with
+ * organizer details and registration/project counts already resolved.
+ */
+public interface HackathonSummaryProjection {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    String getLocation();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Integer getMaxParticipants();
+
+    Double getPrizeAmount();
+
+    HackathonStatus getStatus();
+
+    String getOrganizerName();
+
+    Long getOrganizerId();
+
+    Long getRegistrationCount();
+
+    Long getProjectCount();
+
+    LocalDateTime getCreatedAt();
+}
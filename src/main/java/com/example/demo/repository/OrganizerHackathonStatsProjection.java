@@ -0,0 +1,59 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.HackathonStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection interface for the organizer dashboard — one row per hackathon
+ * with registrations broken down by RegistrationStatus, projects by
+ * ProjectStatus, and the average score of evaluated projects.
+ */
+public interface OrganizerHackathonStatsProjection {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    String getLocation();
+
+    HackathonStatus getStatus();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Integer getMaxParticipants();
+
+    Double getPrizeAmount();
+
+    String getOrganizerName();
+
+    Long getOrganizerId();
+
+    LocalDateTime getCreatedAt();
+
+    Long getRegistered();
+
+    Long getConfirmed();
+
+    Long getCancelled();
+
+    Long getDisqualified();
+
+    Long getSubmitted();
+
+    Long getUnderReview();
+
+    Long getAccepted();
+
+    Long getRejected();
+
+    Long getWinner();
+
+    Long getEvaluated();
+
+    Double getAverageScore();
+}
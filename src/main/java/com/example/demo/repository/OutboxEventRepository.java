@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Pending events after the given id, oldest first (index idx_outbox_pending)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.dispatchedAt IS NULL AND e.failedAt IS NULL AND e.id > :after " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findPendingAfter(@Param("after") long after, Pageable pageable);
+
+    // [aggregateType, aggregateId, lowest pending sequence] (index idx_outbox_aggregate_sequence)
+    @Query("SELECT e.aggregateType, e.aggregateId, MIN(e.sequence) FROM OutboxEvent e " +
+            "WHERE e.dispatchedAt IS NULL AND e.failedAt IS NULL AND e.aggregateId IN :aggregateIds " +
+            "GROUP BY e.aggregateType, e.aggregateId")
+    List<Object[]> findPendingHeads(@Param("aggregateIds") Collection<Long> aggregateIds);
+
+    // Dispatched events in delivery order, for OutboxFollower (index idx_outbox_delivery_position)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deliveryPosition > :position ORDER BY e.deliveryPosition")
+    List<OutboxEvent> findDeliveredAfter(@Param("position") long position, Pageable pageable);
+
+    // Counts the failed attempt; parks the event once it reaches maxAttempts
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+            "e.failedAt = CASE WHEN e.attempts + 1 >= :maxAttempts THEN :now ELSE e.failedAt END WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error,
+            @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
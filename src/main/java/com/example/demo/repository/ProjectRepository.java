@@ -1,20 +1,34 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.ProjectExportRow;
+import com.example.demo.dto.ProjectResponse;
 import com.example.demo.model.Project;
 import com.example.demo.model.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    List<Project> findByHackathonId(Long hackathonId);
-
-    List<Project> findBySubmittedById(Long userId);
+    // Read model: ProjectResponse straight from one joined SELECT. Mapping the
+    // entities instead costs two extra SELECTs per project (lazy hackathon and
+    // submitter). Argument order follows the ProjectResponse fields.
+    String RESPONSE_SELECT = "SELECT new com.example.demo.dto.ProjectResponse(p.id, p.title, p.description, " +
+            "p.techStack, p.githubUrl, p.demoUrl, p.score, p.status, p.judgeFeedback, p.evaluatedBy, " +
+            "h.name, h.id, u.name, u.id, p.submittedAt, p.evaluatedAt) " +
+            "FROM Project p JOIN p.hackathon h JOIN p.submittedBy u ";
 
     List<Project> findByStatusOrderByScoreDesc(ProjectStatus status);
 
@@ -22,8 +36,62 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     boolean existsByHackathonIdAndSubmittedById(Long hackathonId, Long userId);
 
-    @Query("SELECT p FROM Project p ORDER BY p.score DESC")
-    List<Project> findLeaderboard();
+    @Query(RESPONSE_SELECT + "ORDER BY p.id")
+    List<ProjectResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE h.id = :hackathonId ORDER BY p.id")
+    List<ProjectResponse> findResponsesByHackathonId(@Param("hackathonId") Long hackathonId);
+
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId ORDER BY p.id")
+    List<ProjectResponse> findResponsesBySubmittedById(@Param("userId") Long userId);
+
+    // Keyset pagination — sort contract is (id ASC); pass afterId = 0 for the first page.
+    @Query(RESPONSE_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+    List<ProjectResponse> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE h.id = :hackathonId AND p.id > :afterId ORDER BY p.id")
+    List<ProjectResponse> findResponsesByHackathonIdAfter(@Param("hackathonId") Long hackathonId,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // Same ordering contract as LeaderboardEngine: score DESC, submittedAt ASC, id ASC.
+    // Only used while the in-memory leaderboard is still warming up. Global and
+    // per-hackathon are separate statements so the per-hackathon one reads the
+    // top of idx_project_hackathon_rank instead of sorting.
+    @Query(RESPONSE_SELECT + "ORDER BY p.score DESC, p.submittedAt ASC, p.id ASC")
+    List<ProjectResponse> findLeaderboard(Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE h.id = :hackathonId ORDER BY p.score DESC, p.submittedAt ASC, p.id ASC")
+    List<ProjectResponse> findLeaderboardByHackathonId(@Param("hackathonId") Long hackathonId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE p.id = :id")
+    Optional<ProjectResponse> findResponseById(@Param("id") Long id);
+
+    // Rank fallback: projects ahead of (score, submittedAt, id) in leaderboard order.
+    String RANKED_AHEAD = "(p.score > :score OR (p.score = :score AND (p.submittedAt < :submittedAt " +
+            "OR (p.submittedAt = :submittedAt AND p.id < :id))))";
+
+    @Query("SELECT COUNT(p) FROM Project p WHERE " + RANKED_AHEAD)
+    long countRankedAhead(@Param("score") Integer score, @Param("submittedAt") LocalDateTime submittedAt,
+            @Param("id") Long id);
+
+    @Query("SELECT COUNT(p) FROM Project p WHERE p.hackathon.id = :hackathonId AND " + RANKED_AHEAD)
+    long countRankedAheadInHackathon(@Param("hackathonId") Long hackathonId, @Param("score") Integer score,
+            @Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id);
+
+    // Batch evaluation: every requested project with hackathon and submitter in one IN query.
+    @Query("SELECT p FROM Project p JOIN FETCH p.hackathon JOIN FETCH p.submittedBy WHERE p.id IN :ids")
+    List<Project> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Search index rebuild: keyset batches with the hackathon fetched in the same statement.
+    @Query("SELECT p FROM Project p JOIN FETCH p.hackathon WHERE p.id > :afterId ORDER BY p.id")
+    List<Project> findIndexBatchAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Submission export: streamed DTO rows in id order (see RegistrationRepository.streamExportRows).
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.demo.dto.ProjectExportRow(p.id, p.title, p.techStack, p.githubUrl, p.demoUrl, " +
+            "p.score, p.status, u.id, u.name, u.email, p.submittedAt, p.evaluatedBy, p.evaluatedAt) " +
+            "FROM Project p JOIN p.submittedBy u WHERE p.hackathon.id = :hackathonId ORDER BY p.id")
+    Stream<ProjectExportRow> streamExportRows(@Param("hackathonId") Long hackathonId);
 
     @Query("SELECT COUNT(p) FROM Project p WHERE p.hackathon.id = :hackathonId")
     long countByHackathonId(@Param("hackathonId") Long hackathonId);
@@ -1,13 +1,19 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.RegistrationExportRow;
+import com.example.demo.dto.RegistrationResponse;
 import com.example.demo.model.Registration;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
@@ -24,12 +30,29 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
     // Get all registrations for a specific user
     List<Registration> findByUserId(Long userId);
 
+    // A user's registrations with hackathon id/name in one statement (no lazy proxies)
+    @Query("SELECT new com.example.demo.dto.RegistrationResponse(r.id, h.id, h.name, r.status, r.teamName, r.registeredAt) " +
+            "FROM Registration r JOIN r.hackathon h WHERE r.user.email = :email ORDER BY r.registeredAt DESC, r.id DESC")
+    List<RegistrationResponse> findResponsesByUserEmail(@Param("email") String email);
+
+    // Participant export: streamed DTO rows in id order. Must be consumed inside a
+    // read-only transaction and closed. The fetch size lets the driver page through
+    // the result (MySQL needs useCursorFetch=true) instead of buffering all of it.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.demo.dto.RegistrationExportRow(r.id, u.id, u.name, u.email, r.status, " +
+            "r.teamName, r.registeredAt) FROM Registration r JOIN r.user u " +
+            "WHERE r.hackathon.id = :hackathonId ORDER BY r.id")
+    Stream<RegistrationExportRow> streamExportRows(@Param("hackathonId") Long hackathonId);
+
     // Count participants in a hackathon
     // FIX (H4): Use the enum type directly in JPQL instead of a string literal.
     // String literals bypass type-checking and break if the column mapping changes.
     @Query("SELECT COUNT(r) FROM Registration r WHERE r.hackathon.id = :hackathonId AND r.status <> com.example.demo.model.RegistrationStatus.CANCELLED")
     long countActiveByHackathonId(@Param("hackathonId") Long hackathonId);
 
+    // Count all registrations (any status) in a hackathon
+    long countByHackathonId(Long hackathonId);
+
     // Total registrations across all hackathons
     @Query("SELECT COUNT(r) FROM Registration r")
     long countTotalRegistrations();
@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection interface for recently changed account token versions.
+ */
+public interface TokenVersionProjection {
+    String getEmail();
+
+    Long getTokenVersion();
+
+    LocalDateTime getChangedAt();
+}
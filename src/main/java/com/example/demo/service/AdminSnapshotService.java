@@ -0,0 +1,158 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AdminDashboardResponse;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.Role;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.RegistrationRepository;
+import com.example.demo.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Precomputed admin dashboard.
+ *
+ * (P13) GET /api/dashboard/admin used to return every user, every hackathon
+ * and the full leaderboard. It now returns aggregate figures plus bounded
+ * top-N sections, built in the background and shared read-only between
+ * requests, so serving it costs no SQL whatever the data size.
+ *
+ * A short scheduled check rebuilds the snapshot when ResourceVersions shows
+ * a committed write since the last build (bursts of writes coalesce into
+ * one rebuild per check) or when the snapshot is older than max-age, which
+ * also picks up writes made by other nodes.
+ */
+@Service
+public class AdminSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminSnapshotService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Value("${admin.snapshot.top-n:10}")
+    private int topN;
+
+    @Value("${admin.snapshot.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot current;
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /** The latest snapshot; built on the caller's thread only before the first refresh. */
+    public AdminDashboardResponse get() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            refresh();
+            snapshot = current;
+        }
+        return snapshot.response();
+    }
+
+    // -------------------------------------------------------------------------
+    // Refresh
+    // -------------------------------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${admin.snapshot.refresh-check-ms:2000}",
+            initialDelayString = "${admin.snapshot.refresh-check-ms:2000}")
+    public void refreshIfStale() {
+        Snapshot snapshot = current;
+        if (snapshot == null
+                || snapshot.sourceVersion() != resourceVersions.global()
+                || System.nanoTime() - snapshot.builtAtNanos() > TimeUnit.MILLISECONDS.toNanos(maxAgeMs)) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot. The version is read before querying, so a write
+     * that commits mid-build leaves the snapshot marked stale and the next
+     * check rebuilds it.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long version = resourceVersions.global();
+            long start = System.nanoTime();
+
+            Map<Role, Long> usersByRole = new EnumMap<>(Role.class);
+            for (Role role : Role.values()) {
+                usersByRole.put(role, 0L);
+            }
+            for (Object[] row : userRepository.countGroupedByRole()) {
+                usersByRole.put((Role) row[0], (Long) row[1]);
+            }
+            Map<HackathonStatus, Long> hackathonsByStatus = new EnumMap<>(HackathonStatus.class);
+            for (HackathonStatus status : HackathonStatus.values()) {
+                hackathonsByStatus.put(status, 0L);
+            }
+            for (Object[] row : hackathonRepository.countGroupedByStatus()) {
+                hackathonsByStatus.put((HackathonStatus) row[0], (Long) row[1]);
+            }
+
+            AdminDashboardResponse response = AdminDashboardResponse.builder()
+                    .totalUsers(userRepository.countActiveUsers())
+                    .totalHackathons(hackathonsByStatus.values().stream().mapToLong(Long::longValue).sum())
+                    .totalProjects(projectRepository.countAllProjects())
+                    .totalRegistrations(registrationRepository.countTotalRegistrations())
+                    .usersByRole(usersByRole)
+                    .hackathonsByStatus(hackathonsByStatus)
+                    .upcomingHackathons(hackathonService
+                            .getHackathonPage(HackathonStatus.UPCOMING, null, topN).getItems())
+                    .leaderboard(projectService.getLeaderboard(null, topN))
+                    .build();
+
+            long elapsedNanos = System.nanoTime() - start;
+            response.setGenerationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            response.setGeneratedAt(LocalDateTime.now());
+            current = new Snapshot(response, version, System.nanoTime());
+            logger.debug("Admin snapshot rebuilt in {} ms", response.getGenerationMillis());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private record Snapshot(AdminDashboardResponse response, long sourceVersion, long builtAtNanos) {
+    }
+}
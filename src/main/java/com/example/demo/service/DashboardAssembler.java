@@ -0,0 +1,163 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.RegistrationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds composite dashboards by fetching independent sections concurrently.
+ *
+ * (P12) Every section is keyed by the caller's email, so none waits on
+ * another: the user row, their projects, their registrations and the
+ * hackathons still open to them run side by side on a bounded pool, each in
+ * its own read-only transaction. The response takes as long as the slowest
+ * section instead of the sum.
+ *
+ * Each section gets the same deadline (dashboard.section-timeout-ms). A
+ * section that misses it or fails is returned as null and listed under
+ * "unavailableSections"; only the user section is required. When the pool
+ * and queue are full the request thread runs the section itself.
+ *
+ * Each in-flight section holds a pooled DB connection, so keep
+ * dashboard.executor.threads well under the Hikari maximum-pool-size.
+ */
+@Component
+public class DashboardAssembler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardAssembler.class);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${dashboard.executor.threads:8}")
+    private int threads;
+
+    @Value("${dashboard.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${dashboard.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
+
+    @Value("${dashboard.available-hackathons-limit:10}")
+    private int availableHackathonsLimit;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "dashboard-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "dashboard");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // -------------------------------------------------------------------------
+    // Dashboards
+    // -------------------------------------------------------------------------
+
+    public Map<String, Object> participantDashboard(String email) {
+        CompletableFuture<Object> user = submit(
+                () -> userService.toUserResponse(userService.getUserByEmail(email)));
+        CompletableFuture<Object> projects = submit(() -> projectService.getMyProjects(email));
+        CompletableFuture<Object> registrations = submit(
+                () -> registrationRepository.findResponsesByUserEmail(email));
+        CompletableFuture<Object> available = submit(
+                () -> hackathonService.getOpenHackathonsFor(email, availableHackathonsLimit));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        List<String> unavailable = new ArrayList<>();
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("user", await("user", user, deadline, true, unavailable));
+        dashboard.put("myProjects", await("myProjects", projects, deadline, false, unavailable));
+        dashboard.put("registrations", await("registrations", registrations, deadline, false, unavailable));
+        dashboard.put("availableHackathons", await("availableHackathons", available, deadline, false, unavailable));
+        if (!unavailable.isEmpty()) {
+            dashboard.put("unavailableSections", unavailable);
+        }
+        return dashboard;
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private CompletableFuture<Object> submit(Supplier<?> section) {
+        return CompletableFuture.supplyAsync(section::get, executor);
+    }
+
+    /**
+     * Wait for a section until the shared deadline. Required sections
+     * rethrow their failure (e.g. ResourceNotFoundException → 404); optional
+     * ones degrade to null.
+     */
+    private Object await(String name, CompletableFuture<Object> section, long deadline, boolean required,
+            List<String> unavailable) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return section.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            section.cancel(true);
+            logger.warn("Dashboard section '{}' timed out after {} ms", name, sectionTimeoutMs);
+            if (required) {
+                throw new IllegalStateException("Dashboard section '" + name + "' timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building dashboard", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (required && cause instanceof RuntimeException re) {
+                throw re;
+            }
+            logger.warn("Dashboard section '{}' failed: {}", name, cause.getMessage());
+            if (required) {
+                throw new IllegalStateException(cause);
+            }
+        }
+        unavailable.add(name);
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import com.example.demo.model.DomainEventType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A committed domain event as delivered to listeners. id is the outbox
+ * row id: a listener that sees the same id twice is seeing a redelivery.
+ * sequence numbers the events of one aggregate in commit order. origin is
+ * the NodeIdentity of the node whose transaction wrote it.
+ */
+public record DomainEvent(long id, DomainEventType type, long aggregateId, long sequence,
+        Map<String, Object> payload, LocalDateTime occurredAt, String origin) {
+
+    /** A numeric payload field, or null when absent. */
+    public Long longValue(String key) {
+        Object value = payload.get(key);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    /** A text payload field, or null when absent. */
+    public String stringValue(String key) {
+        Object value = payload.get(key);
+        return value == null ? null : value.toString();
+    }
+}
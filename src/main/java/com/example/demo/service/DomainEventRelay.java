@@ -0,0 +1,16 @@
+package com.example.demo.service;
+
+/**
+ * Where OutboxDispatcher hands committed events. The default,
+ * InProcessEventRelay, publishes them to this node's @EventListener
+ * methods (and OutboxFollower to the other nodes'); a broker-backed relay
+ * can replace both (outbox.relay).
+ *
+ * relay() returning normally means the event was delivered. Throwing
+ * leaves it pending: it is retried on the next dispatch and later events
+ * of the same aggregate wait for it.
+ */
+public interface DomainEventRelay {
+
+    void relay(DomainEvent event);
+}
@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.model.DomainEventType;
+import com.example.demo.model.OutboxEvent;
+import com.example.demo.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records domain events in the transactional outbox.
+ *
+ * (P25) publish() queues the event on the caller's transaction; just
+ * before it commits, the queued events are numbered and inserted, so an
+ * event exists if and only if the change it describes commits. The row
+ * ids come from @PooledId, so several events in one transaction go out as
+ * one batched INSERT. After commit the OutboxDispatcher is woken to relay
+ * them.
+ *
+ * Numbering advances the aggregate's outbox_sequences row, which stays
+ * locked until commit: a second transaction writing events for the same
+ * aggregate waits there, and so numbers its events after the first one's.
+ * Aggregates are locked in key order, so two transactions cannot
+ * deadlock on them. Doing this at commit rather than in publish() keeps the
+ * lock for the commit only, not for the whole transaction.
+ */
+@Component
+public class DomainEvents {
+
+    private static final String ADVANCE_SQL = "UPDATE outbox_sequences SET last_sequence = last_sequence + ? "
+            + "WHERE aggregate_key = ?";
+    private static final String INSERT_SQL = "INSERT INTO outbox_sequences (aggregate_key, last_sequence) "
+            + "VALUES (?, ?)";
+    private static final String SELECT_SQL = "SELECT last_sequence FROM outbox_sequences WHERE aggregate_key = ?";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NodeIdentity node;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + type + " payload", e);
+        }
+        pendingWrite().events.add(OutboxEvent.builder()
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .payload(json)
+                .origin(node.id())
+                .build());
+    }
+
+    /** This transaction's queued events; registered on its first publish(). */
+    private PendingWrite pendingWrite() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingWrite pending) {
+                return pending;
+            }
+        }
+        PendingWrite pending = new PendingWrite();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        // Last: listeners may read caches that this transaction's afterCommit callbacks update
+        AfterCommit.runLast(outboxDispatcher::wake);
+        return pending;
+    }
+
+    private final class PendingWrite implements TransactionSynchronization {
+        final List<OutboxEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Map<String, List<OutboxEvent>> byAggregate = new TreeMap<>();
+            for (OutboxEvent event : events) {
+                byAggregate.computeIfAbsent(event.getAggregateType() + ":" + event.getAggregateId(),
+                        key -> new ArrayList<>()).add(event);
+            }
+            byAggregate.forEach((key, aggregateEvents) -> {
+                long sequence = advance(key, aggregateEvents.size()) - aggregateEvents.size();
+                for (OutboxEvent event : aggregateEvents) {
+                    event.setSequence(++sequence);
+                }
+            });
+            outboxEventRepository.saveAll(events);
+        }
+    }
+
+    /** Reserves count sequence numbers for the aggregate; returns the last. */
+    private long advance(String aggregateKey, int count) {
+        if (jdbcTemplate.update(ADVANCE_SQL, count, aggregateKey) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, aggregateKey, count);
+                return count;
+            } catch (DuplicateKeyException e) {
+                // Another transaction's first event for this aggregate got there first
+                jdbcTemplate.update(ADVANCE_SQL, count, aggregateKey);
+            }
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, aggregateKey);
+    }
+}
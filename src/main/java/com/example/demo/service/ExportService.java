@@ -0,0 +1,212 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ProjectExportRow;
+import com.example.demo.dto.RegistrationExportRow;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.RegistrationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streaming CSV / NDJSON exports of a hackathon's registrations and projects.
+ *
+ * (P17) Exports used to go through getAllProjects(), which loads every
+ * entity and DTO into one List before the first byte is written. Here each
+ * row is a JPQL constructor-expression DTO read from a Spring Data
+ * Stream with a JDBC fetch-size hint, written to the response and dropped,
+ * so heap use does not grow with the number of rows. Nothing enters the
+ * persistence context.
+ *
+ * The write methods run inside their own read-only transaction, which keeps
+ * the cursor (and one pooled connection) open for the length of the export.
+ * Callers check access first; these methods do not.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported format: " + value + " (use csv or ndjson)");
+            }
+        }
+    }
+
+    private static final List<Column<RegistrationExportRow>> REGISTRATION_COLUMNS = List.of(
+            new Column<>("registration_id", RegistrationExportRow::getRegistrationId),
+            new Column<>("user_id", RegistrationExportRow::getUserId),
+            new Column<>("name", RegistrationExportRow::getUserName),
+            new Column<>("email", RegistrationExportRow::getUserEmail),
+            new Column<>("status", RegistrationExportRow::getStatus),
+            new Column<>("team_name", RegistrationExportRow::getTeamName),
+            new Column<>("registered_at", RegistrationExportRow::getRegisteredAt));
+
+    private static final List<Column<ProjectExportRow>> PROJECT_COLUMNS = List.of(
+            new Column<>("project_id", ProjectExportRow::getProjectId),
+            new Column<>("title", ProjectExportRow::getTitle),
+            new Column<>("tech_stack", ProjectExportRow::getTechStack),
+            new Column<>("github_url", ProjectExportRow::getGithubUrl),
+            new Column<>("demo_url", ProjectExportRow::getDemoUrl),
+            new Column<>("score", ProjectExportRow::getScore),
+            new Column<>("status", ProjectExportRow::getStatus),
+            new Column<>("submitted_by_id", ProjectExportRow::getSubmittedById),
+            new Column<>("submitted_by_name", ProjectExportRow::getSubmittedByName),
+            new Column<>("submitted_by_email", ProjectExportRow::getSubmittedByEmail),
+            new Column<>("submitted_at", ProjectExportRow::getSubmittedAt),
+            new Column<>("evaluated_by", ProjectExportRow::getEvaluatedBy),
+            new Column<>("evaluated_at", ProjectExportRow::getEvaluatedAt));
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // -------------------------------------------------------------------------
+    // Exports
+    // -------------------------------------------------------------------------
+
+    /** Writes every registration of the hackathon; returns the number of rows. */
+    @Transactional(readOnly = true)
+    public long writeRegistrations(Long hackathonId, Format format, OutputStream out) throws IOException {
+        try (Stream<RegistrationExportRow> rows = registrationRepository.streamExportRows(hackathonId)) {
+            long count = write(rows, REGISTRATION_COLUMNS, format, out);
+            logger.info("Exported {} registrations of hackathon {} as {}", count, hackathonId, format);
+            return count;
+        }
+    }
+
+    /** Writes every project of the hackathon; returns the number of rows. */
+    @Transactional(readOnly = true)
+    public long writeProjects(Long hackathonId, Format format, OutputStream out) throws IOException {
+        try (Stream<ProjectExportRow> rows = projectRepository.streamExportRows(hackathonId)) {
+            long count = write(rows, PROJECT_COLUMNS, format, out);
+            logger.info("Exported {} projects of hackathon {} as {}", count, hackathonId, format);
+            return count;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Writers
+    // -------------------------------------------------------------------------
+
+    private <T> long write(Stream<T> rows, List<Column<T>> columns, Format format, OutputStream out)
+            throws IOException {
+        // Not closed: the servlet container owns the response stream
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+        if (format == Format.NDJSON) {
+            // Per-row flushing would turn every row into a network write
+            ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator json = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (Iterator<T> it = rows.iterator(); it.hasNext(); count++) {
+                rowWriter.writeValue(json, it.next());
+                json.writeRaw('\n');
+            }
+            json.flush();
+        } else {
+            writeCsvLine(writer, columns.stream().map(Column::header).toList());
+            for (Iterator<T> it = rows.iterator(); it.hasNext(); count++) {
+                T row = it.next();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeCsvCell(writer, columns.get(i).value().apply(row));
+                }
+                writer.write("\r\n");
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvCell(writer, cells.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting. Text starting with = + - @ is prefixed with ' so
+     * spreadsheet apps do not evaluate user-supplied titles or team names
+     * as formulas.
+     */
+    private static void writeCsvCell(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private record Column<T>(String header, Function<T, Object> value) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.HackathonResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Cache of single-hackathon responses (GET /api/hackathons/{id}).
+ *
+ * (P22) Building one costs the hackathon row, the lazy organizer and two
+ * COUNTs, and it is what every share link and mobile client polls. Entries
+ * are size-bounded and expire after hackathon.response-cache.ttl-seconds;
+ * writes that change a response (details, status, delete, a registration,
+ * a submission) call invalidate(), applied after commit. The TTL bounds
+ * staleness for changes made on other nodes.
+ *
+ * Each snapshot's ETag is a hash of the response it was built from, so
+ * reloading unchanged data (after TTL expiry, eviction, on another node or
+ * after a restart) yields the same ETag and clients keep getting 304s,
+ * while any change, wherever it was written, yields a new one. A load
+ * that overlaps an invalidation is returned but not cached, so a write
+ * that commits while the load is in flight can never be hidden behind a
+ * stale entry.
+ *
+ * Hit/miss/eviction counts are published as cache.* meters
+ * (cache=hackathonResponses) plus an explicit-invalidation counter.
+ */
+@Component
+public class HackathonResponseCache {
+
+    /** A cached response and the strong ETag clients revalidate with. */
+    public record Snapshot(HackathonResponse response, String eTag) {
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hackathon.response-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${hackathon.response-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private Cache<Long, Snapshot> cache;
+
+    private Counter invalidations;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hackathonResponses");
+        invalidations = Counter.builder("hacknation.hackathon_responses.invalidations")
+                .description("Explicit hackathon response cache evictions after writes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached snapshot, or a fresh one built by loader. Loads outside
+     * cache.get(key, loader) for the same reason as CustomUserDetailsService:
+     * the loader would run a query inside a map-bin monitor.
+     */
+    public Snapshot get(long hackathonId, LongFunction<HackathonResponse> loader) {
+        Snapshot snapshot = cache.getIfPresent(hackathonId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // Inside a caller's transaction the load may see its uncommitted writes
+        boolean cacheable = !TransactionSynchronizationManager.isActualTransactionActive();
+        long seen = invalidationCount.get();
+        HackathonResponse response = loader.apply(hackathonId);
+        snapshot = new Snapshot(response, eTag(hackathonId, response));
+        if (cacheable && invalidationCount.get() == seen) {
+            cache.put(hackathonId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /** Drop the hackathon's snapshot once the surrounding transaction commits. */
+    public void invalidate(long hackathonId) {
+        AfterCommit.run(() -> {
+            invalidationCount.incrementAndGet();
+            cache.invalidate(hackathonId);
+            invalidations.increment();
+        });
+    }
+
+    private String eTag(long hackathonId, HackathonResponse response) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash hackathon " + hackathonId, e);
+        }
+        return "\"h" + hackathonId + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    }
+}
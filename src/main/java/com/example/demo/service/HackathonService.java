@@ -1,25 +1,43 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.HackathonRequest;
 import com.example.demo.dto.HackathonResponse;
+import com.example.demo.dto.OrganizerDashboardResponse;
+import com.example.demo.dto.OrganizerHackathonStats;
 import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.DomainEventType;
 import com.example.demo.model.Hackathon;
 import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.ProjectStatus;
 import com.example.demo.model.Registration;
 import com.example.demo.model.RegistrationStatus;
 import com.example.demo.model.User;
 import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.HackathonSummaryProjection;
+import com.example.demo.repository.OrganizerHackathonStatsProjection;
 import com.example.demo.repository.ProjectRepository;
 import com.example.demo.repository.RegistrationRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ResourceVersions.Resource;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +50,15 @@ import java.util.stream.Collectors;
  * registration and project counts are fetched in bulk via the
  * repositories (still multiple queries but no N+1 per-entity loop).
  * - (H7) delete() validates ownership before deletion.
+ * - (P1) Listing endpoints read from a single aggregate projection query
+ * instead of calling toResponse() (2 COUNTs + lazy organizer) per row.
+ * - (P14) The organizer dashboard reads per-hackathon status breakdowns
+ * from one grouped query and sums the totals in memory.
+ * - (P22) Single-hackathon reads go through HackathonResponseCache; every
+ * write that changes a HackathonResponse invalidates its entry.
+ * - (P25) Every write publishes a domain event to the outbox in the same
+ * transaction (DomainEvents); other nodes apply it to their caches and
+ * indexes through RemoteWriteListener.
  */
 @Service
 @Transactional
@@ -39,6 +66,9 @@ public class HackathonService {
 
     private static final Logger logger = LoggerFactory.getLogger(HackathonService.class);
 
+    // Statuses registerParticipant() accepts
+    private static final Set<HackathonStatus> REGISTRABLE = EnumSet.of(HackathonStatus.UPCOMING, HackathonStatus.ACTIVE);
+
     @Autowired
     private HackathonRepository hackathonRepository;
 
@@ -51,6 +81,44 @@ public class HackathonService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private LeaderboardEngine leaderboardEngine;
+
+    @Autowired
+    private LeaderboardStream leaderboardStream;
+
+    @Autowired
+    private StatsCounterService statsCounterService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private SeatAdmission seatAdmission;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TechStackIndex techStackIndex;
+
+    @Autowired
+    private HackathonResponseCache hackathonResponseCache;
+
+    @Autowired
+    private DomainEvents domainEvents;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
     // -------------------------------------------------------------------------
     // CRUD
     // -------------------------------------------------------------------------
@@ -80,8 +148,13 @@ public class HackathonService {
                 .build();
 
         Hackathon saved = hackathonRepository.save(hackathon);
+        domainEvents.publish(DomainEventType.HACKATHON_CREATED, saved.getId(), Map.of("organizerId", organizer.getId()));
+        statsCounterService.hackathonCreated(saved.getStatus());
+        resourceVersions.changed(Resource.HACKATHONS);
         logger.info("Hackathon created: '{}' by {}", saved.getName(), organizerEmail);
-        return toResponse(saved);
+        HackathonResponse response = toResponse(saved);
+        AfterCommit.run(() -> searchIndex.indexHackathon(response));
+        return response;
     }
 
     /**
@@ -104,8 +177,17 @@ public class HackathonService {
         hackathon.setPrizeAmount(request.getPrizeAmount());
 
         Hackathon saved = hackathonRepository.save(hackathon);
+        domainEvents.publish(DomainEventType.HACKATHON_UPDATED, saved.getId(), Map.of("name", saved.getName()));
+        AfterCommit.run(() -> {
+            leaderboardEngine.renameHackathon(saved.getId(), saved.getName());
+            techStackIndex.renameHackathon(saved.getId(), saved.getName());
+        });
+        resourceVersions.changed(Resource.HACKATHONS);
+        hackathonResponseCache.invalidate(saved.getId());
         logger.info("Hackathon '{}' updated by {}", saved.getName(), callerEmail);
-        return toResponse(saved);
+        HackathonResponse response = toResponse(saved);
+        AfterCommit.run(() -> searchIndex.indexHackathon(response));
+        return response;
     }
 
     /**
@@ -116,7 +198,21 @@ public class HackathonService {
     public void deleteHackathon(Long id, String callerEmail) {
         Hackathon hackathon = getHackathonOrThrow(id);
         assertOwnerOrAdmin(hackathon, callerEmail);
+        // Registrations and projects cascade with the hackathon
+        long registrationCount = registrationRepository.countByHackathonId(id);
+        long projectCount = projectRepository.countByHackathonId(id);
         hackathonRepository.delete(hackathon);
+        domainEvents.publish(DomainEventType.HACKATHON_DELETED, id, Map.of("name", hackathon.getName()));
+        statsCounterService.hackathonDeleted(hackathon.getStatus(), registrationCount, projectCount);
+        resourceVersions.changed(Resource.HACKATHONS, Resource.REGISTRATIONS, Resource.PROJECTS);
+        hackathonResponseCache.invalidate(id);
+        AfterCommit.run(() -> {
+            leaderboardEngine.removeHackathon(id);
+            leaderboardStream.hackathonDeleted(id);
+            seatAdmission.evict(id);
+            searchIndex.removeHackathon(id);
+            techStackIndex.removeHackathon(id);
+        });
         logger.info("Hackathon '{}' deleted by {}", hackathon.getName(), callerEmail);
     }
 
@@ -126,7 +222,7 @@ public class HackathonService {
 
     @Transactional(readOnly = true)
     public List<HackathonResponse> getAllHackathons() {
-        return hackathonRepository.findAll()
+        return hackathonRepository.findAllSummaries()
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -134,15 +230,59 @@ public class HackathonService {
 
     @Transactional(readOnly = true)
     public List<HackathonResponse> getHackathonsByStatus(HackathonStatus status) {
-        return hackathonRepository.findByStatus(status)
+        return hackathonRepository.findSummariesByStatus(status)
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset-paginated listing, optionally filtered by status.
+     * Sort contract: startDate ASC, id ASC.
+     */
     @Transactional(readOnly = true)
+    public CursorPage<HackathonResponse> getHackathonPage(HackathonStatus status, String after, Integer limit) {
+        int pageSize = PageCursor.clampLimit(limit);
+        String[] keys = PageCursor.decode(after, 2);
+
+        List<HackathonSummaryProjection> rows;
+        if (keys == null) {
+            rows = status == null
+                    ? hackathonRepository.findSummaryPage(PageCursor.probe(pageSize))
+                    : hackathonRepository.findSummaryPageByStatus(status, PageCursor.probe(pageSize));
+        } else {
+            LocalDate afterDate;
+            long afterId;
+            try {
+                afterDate = LocalDate.parse(keys[0]);
+                afterId = Long.parseLong(keys[1]);
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            rows = status == null
+                    ? hackathonRepository.findSummaryPageAfter(afterDate, afterId, PageCursor.probe(pageSize))
+                    : hackathonRepository.findSummaryPageByStatusAfter(status, afterDate, afterId,
+                            PageCursor.probe(pageSize));
+        }
+
+        return PageCursor.toPage(rows, pageSize,
+                h -> PageCursor.encode(h.getStartDate(), h.getId()), this::toResponse);
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public HackathonResponse getHackathonById(Long id) {
-        return toResponse(getHackathonOrThrow(id));
+        return getHackathonSnapshot(id).response();
+    }
+
+    /**
+     * Single hackathon with its ETag, from HackathonResponseCache.
+     * SUPPORTS: a cache hit needs no transaction (and so no pooled
+     * connection); a miss loads in its own read-only transaction.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public HackathonResponseCache.Snapshot getHackathonSnapshot(Long id) {
+        return hackathonResponseCache.get(id,
+                hackathonId -> readOnlyTransaction.execute(status -> toResponse(getHackathonOrThrow(hackathonId))));
     }
 
     /**
@@ -151,12 +291,33 @@ public class HackathonService {
      */
     @Transactional(readOnly = true)
     public List<HackathonResponse> getHackathonsByOrganizer(Long organizerId) {
-        return hackathonRepository.findByOrganizerId(organizerId)
+        return hackathonRepository.findSummariesByOrganizerId(organizerId)
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Hackathons the user can still register for (UPCOMING or ACTIVE and not
+     * yet joined), soonest first, at most `limit` rows.
+     */
+    @Transactional(readOnly = true)
+    public List<HackathonResponse> getOpenHackathonsFor(String userEmail, int limit) {
+        return hackathonRepository.findSummariesOpenTo(REGISTRABLE, userEmail, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Owner-or-admin check for organizer-only reads served elsewhere
+     * (e.g. exports). Same rules as update/delete.
+     */
+    @Transactional(readOnly = true)
+    public void checkOwnerOrAdmin(Long hackathonId, String callerEmail) {
+        assertOwnerOrAdmin(getHackathonOrThrow(hackathonId), callerEmail);
+    }
+
     // -------------------------------------------------------------------------
     // Registration
     // -------------------------------------------------------------------------
@@ -166,10 +327,13 @@ public class HackathonService {
      * Validates: hackathon exists, status allows registration,
      * not already registered, capacity not exceeded.
      *
-     * NOTE (H6): Race condition still exists for very high concurrency—
-     * mitigated by the DB UNIQUE index on (user_id, hackathon_id).
-     * DataIntegrityViolationException is caught at the controller level
-     * by GlobalExceptionHandler.
+     * FIX (H6): Capacity is enforced by SeatAdmission — a conditional seat
+     * UPDATE on the hackathon row, fronted by an in-memory per-hackathon
+     * counter that rejects full hackathons early — so concurrent requests
+     * can no longer overbook, on one node or several, and the hot path no
+     * longer runs COUNT(*). Duplicate registrations racing past the exists-check are
+     * still stopped by the DB UNIQUE index on (user_id, hackathon_id);
+     * GlobalExceptionHandler maps that to 409.
      */
     public String registerParticipant(Long hackathonId, String userEmail) {
         Hackathon hackathon = getHackathonOrThrow(hackathonId);
@@ -187,8 +351,7 @@ public class HackathonService {
             throw new BadRequestException("You are already registered for this hackathon");
         }
 
-        long currentCount = registrationRepository.countActiveByHackathonId(hackathonId);
-        if (currentCount >= hackathon.getMaxParticipants()) {
+        if (!seatAdmission.tryReserve(hackathonId, hackathon.getMaxParticipants())) {
             throw new BadRequestException(
                     "Hackathon is full. Maximum participants: " + hackathon.getMaxParticipants());
         }
@@ -200,6 +363,10 @@ public class HackathonService {
                 .build();
 
         registrationRepository.save(registration);
+        domainEvents.publish(DomainEventType.PARTICIPANT_REGISTERED, hackathonId, Map.of("userId", user.getId()));
+        statsCounterService.participantRegistered();
+        resourceVersions.changed(Resource.REGISTRATIONS);
+        hackathonResponseCache.invalidate(hackathonId);
         logger.info("User {} registered for hackathon '{}'", userEmail, hackathon.getName());
         return "Successfully registered for " + hackathon.getName();
     }
@@ -216,10 +383,21 @@ public class HackathonService {
     public HackathonResponse updateStatus(Long id, HackathonStatus status, String callerEmail) {
         Hackathon hackathon = getHackathonOrThrow(id);
         assertOwnerOrAdmin(hackathon, callerEmail);
+        HackathonStatus previous = hackathon.getStatus();
         hackathon.setStatus(status);
         Hackathon saved = hackathonRepository.save(hackathon);
+        if (previous != status) {
+            domainEvents.publish(DomainEventType.HACKATHON_STATUS_CHANGED, saved.getId(), Map.of(
+                    "from", previous,
+                    "to", status));
+        }
+        statsCounterService.hackathonStatusChanged(previous, status);
+        resourceVersions.changed(Resource.HACKATHONS);
+        hackathonResponseCache.invalidate(saved.getId());
         logger.info("Hackathon '{}' status updated to {} by {}", saved.getName(), status, callerEmail);
-        return toResponse(saved);
+        HackathonResponse response = toResponse(saved);
+        AfterCommit.run(() -> searchIndex.indexHackathon(response));
+        return response;
     }
 
     // -------------------------------------------------------------------------
@@ -236,6 +414,46 @@ public class HackathonService {
         return hackathonRepository.count();
     }
 
+    /**
+     * Organizer dashboard figures from a single grouped query; the totals are
+     * summed from the per-hackathon rows rather than re-queried. The caller
+     * fills in the user section.
+     */
+    @Transactional(readOnly = true)
+    public OrganizerDashboardResponse getOrganizerDashboard(Long organizerId) {
+        List<OrganizerHackathonStats> rows = hackathonRepository.findOrganizerStats(organizerId)
+                .stream()
+                .map(this::toStats)
+                .collect(Collectors.toList());
+
+        Map<RegistrationStatus, Long> registrations = zeroCounts(RegistrationStatus.class);
+        Map<ProjectStatus, Long> projects = zeroCounts(ProjectStatus.class);
+        long participants = 0;
+        long projectTotal = 0;
+        long evaluated = 0;
+        double scoreSum = 0;
+        for (OrganizerHackathonStats row : rows) {
+            row.getRegistrationsByStatus().forEach((k, v) -> registrations.merge(k, v, Long::sum));
+            row.getProjectsByStatus().forEach((k, v) -> projects.merge(k, v, Long::sum));
+            participants += row.getRegistrationCount();
+            projectTotal += row.getProjectCount();
+            if (row.getAverageScore() != null) {
+                evaluated += row.getEvaluatedProjects();
+                scoreSum += row.getAverageScore() * row.getEvaluatedProjects();
+            }
+        }
+
+        return OrganizerDashboardResponse.builder()
+                .totalHackathonsCreated(rows.size())
+                .totalParticipants(participants)
+                .totalProjects(projectTotal)
+                .registrationsByStatus(registrations)
+                .projectsByStatus(projects)
+                .averageScore(evaluated > 0 ? scoreSum / evaluated : null)
+                .myHackathons(rows)
+                .build();
+    }
+
     // -------------------------------------------------------------------------
     // Internal helpers
     // -------------------------------------------------------------------------
@@ -265,9 +483,8 @@ public class HackathonService {
 
     /**
      * Map Hackathon entity → HackathonResponse DTO.
-     * NOTE: This still executes 2 count queries per hackathon. For
-     * large datasets, replace with a JPQL GROUP BY query that returns
-     * counts in a single round-trip.
+     * NOTE: This executes 2 count queries, so it is only used for single
+     * hackathons. Listings go through toResponse(HackathonSummaryProjection).
      */
     private HackathonResponse toResponse(Hackathon h) {
         long regCount = registrationRepository.countActiveByHackathonId(h.getId());
@@ -290,4 +507,71 @@ public class HackathonService {
                 .createdAt(h.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Map a listing projection → HackathonResponse DTO. No further queries.
+     */
+    private HackathonResponse toResponse(HackathonSummaryProjection h) {
+        return HackathonResponse.builder()
+                .id(h.getId())
+                .name(h.getName())
+                .description(h.getDescription())
+                .location(h.getLocation())
+                .startDate(h.getStartDate())
+                .endDate(h.getEndDate())
+                .maxParticipants(h.getMaxParticipants() != null ? h.getMaxParticipants() : 0)
+                .prizeAmount(h.getPrizeAmount())
+                .status(h.getStatus())
+                .organizerName(h.getOrganizerName())
+                .organizerId(h.getOrganizerId())
+                .registrationCount(h.getRegistrationCount() != null ? h.getRegistrationCount() : 0)
+                .projectCount(h.getProjectCount() != null ? h.getProjectCount() : 0)
+                .createdAt(h.getCreatedAt())
+                .build();
+    }
+
+    /** Map an organizer dashboard row → OrganizerHackathonStats. No further queries. */
+    private OrganizerHackathonStats toStats(OrganizerHackathonStatsProjection h) {
+        Map<RegistrationStatus, Long> registrations = new EnumMap<>(RegistrationStatus.class);
+        registrations.put(RegistrationStatus.REGISTERED, h.getRegistered());
+        registrations.put(RegistrationStatus.CONFIRMED, h.getConfirmed());
+        registrations.put(RegistrationStatus.CANCELLED, h.getCancelled());
+        registrations.put(RegistrationStatus.DISQUALIFIED, h.getDisqualified());
+
+        Map<ProjectStatus, Long> projects = new EnumMap<>(ProjectStatus.class);
+        projects.put(ProjectStatus.SUBMITTED, h.getSubmitted());
+        projects.put(ProjectStatus.UNDER_REVIEW, h.getUnderReview());
+        projects.put(ProjectStatus.ACCEPTED, h.getAccepted());
+        projects.put(ProjectStatus.REJECTED, h.getRejected());
+        projects.put(ProjectStatus.WINNER, h.getWinner());
+
+        return OrganizerHackathonStats.builder()
+                .id(h.getId())
+                .name(h.getName())
+                .description(h.getDescription())
+                .location(h.getLocation())
+                .startDate(h.getStartDate())
+                .endDate(h.getEndDate())
+                .maxParticipants(h.getMaxParticipants())
+                .prizeAmount(h.getPrizeAmount())
+                .status(h.getStatus())
+                .organizerName(h.getOrganizerName())
+                .organizerId(h.getOrganizerId())
+                .registrationCount(h.getRegistered() + h.getConfirmed() + h.getDisqualified())
+                .projectCount(projects.values().stream().mapToLong(Long::longValue).sum())
+                .createdAt(h.getCreatedAt())
+                .registrationsByStatus(registrations)
+                .projectsByStatus(projects)
+                .evaluatedProjects(h.getEvaluated())
+                .averageScore(h.getAverageScore())
+                .build();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
 }
\ No newline at end of file
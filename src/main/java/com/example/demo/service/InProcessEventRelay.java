@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers domain events to @EventListener(DomainEvent) methods in this
+ * application context, synchronously on the dispatcher thread. A listener
+ * that throws fails the delivery, so every listener may see an event more
+ * than once and must be idempotent.
+ *
+ * This reaches the node holding the dispatcher lease; OutboxFollower
+ * publishes the same events on every other node.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay", havingValue = "in-process", matchIfMissing = true)
+public class InProcessEventRelay implements DomainEventRelay {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void relay(DomainEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
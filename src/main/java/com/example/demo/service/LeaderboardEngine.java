@@ -0,0 +1,299 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.LeaderboardRank;
+import com.example.demo.dto.ProjectResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory leaderboard index — serves top-N and rank lookups without
+ * touching the database.
+ *
+ * One global board plus one board per hackathon, each a skip list ordered by
+ * score DESC, submittedAt ASC, id ASC (earlier submission wins a tie).
+ * Boards hold ProjectResponse snapshots, so reads never hit lazy entities.
+ *
+ * Consistency:
+ * - Warmed once from the DB at startup (ProjectService.warmLeaderboard()).
+ * - Updated by ProjectService / HackathonService only after their
+ * transaction commits (see AfterCommit), so rolled-back scores never leak.
+ * - Writers are serialised by a lock; readers are lock-free.
+ * - The index is per-node. In a multi-instance deployment each node warms
+ * its own copy and applies its own writes as above; other nodes' writes
+ * arrive through the outbox (RemoteWriteListener).
+ *
+ * Rank lookups: scores are bounded (0..MAX_SCORE), so every board also
+ * keeps its entries per score in a sorted copy-on-write array. "Projects
+ * ranked above" = sum of the array lengths for higher scores (constant
+ * work) + a binary search among the ties at the same score, so a lookup is
+ * O(log n) even when most projects share a score (every unevaluated one
+ * scores 0). Writers pay O(ties) to copy one array, under the write lock.
+ */
+@Component
+public class LeaderboardEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardEngine.class);
+
+    /** Matches the @Max on EvaluationRequest.score. */
+    public static final int MAX_SCORE = 100;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::score).reversed()
+            .thenComparing(Entry::submittedAt)
+            .thenComparingLong(Entry::projectId);
+
+    private final Board global = new Board();
+    private final Map<Long, Board> byHackathon = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> byProject = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean ready = false;
+
+    // -------------------------------------------------------------------------
+    // Writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Initial load. Projects already indexed (because a write committed while
+     * the warm-up query was running) are left untouched — they are newer.
+     */
+    public void warm(Collection<ProjectResponse> projects) {
+        writeLock.lock();
+        try {
+            for (ProjectResponse p : projects) {
+                if (p.getId() != null && p.getHackathonId() != null && !byProject.containsKey(p.getId())) {
+                    Entry e = Entry.of(p);
+                    byProject.put(e.projectId(), e);
+                    global.ordered.add(e);
+                    byHackathon.computeIfAbsent(e.hackathonId(), id -> new Board()).ordered.add(e);
+                }
+            }
+            global.reindexTies();
+            byHackathon.values().forEach(Board::reindexTies);
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        logger.info("Leaderboard warmed with {} projects across {} hackathons",
+                byProject.size(), byHackathon.size());
+    }
+
+    public void upsert(ProjectResponse project) {
+        if (project.getId() == null || project.getHackathonId() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Entry previous = byProject.get(project.getId());
+            if (previous != null) {
+                delete(previous);
+            }
+            add(Entry.of(project));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long projectId) {
+        writeLock.lock();
+        try {
+            Entry previous = byProject.get(projectId);
+            if (previous != null) {
+                delete(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Drops every project of a deleted hackathon. */
+    public void removeHackathon(Long hackathonId) {
+        writeLock.lock();
+        try {
+            Board board = byHackathon.remove(hackathonId);
+            if (board == null) {
+                return;
+            }
+            for (Entry e : board.ordered) {
+                global.ordered.remove(e);
+                byProject.remove(e.projectId());
+            }
+            global.reindexTies();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Keeps denormalised hackathon names in the snapshots current. */
+    public void renameHackathon(Long hackathonId, String name) {
+        writeLock.lock();
+        try {
+            Board board = byHackathon.get(hackathonId);
+            if (board == null) {
+                return;
+            }
+            for (Entry e : new ArrayList<>(board.ordered)) {
+                if (!name.equals(e.view().getHackathonName())) {
+                    Entry renamed = Entry.of(e.view().toBuilder().hackathonName(name).build());
+                    byProject.put(renamed.projectId(), renamed);
+                    global.ordered.remove(e);
+                    global.ordered.add(renamed);
+                    board.ordered.remove(e);
+                    board.ordered.add(renamed);
+                }
+            }
+            global.reindexTies();
+            board.reindexTies();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /** False until the startup warm-up has completed. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Top `limit` projects, globally (hackathonId == null) or for one hackathon.
+     */
+    public List<ProjectResponse> top(Long hackathonId, int limit) {
+        Board board = hackathonId == null ? global : byHackathon.get(hackathonId);
+        List<ProjectResponse> result = new ArrayList<>(Math.min(limit, 64));
+        if (board == null) {
+            return result;
+        }
+        Iterator<Entry> it = board.ordered.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next().view());
+        }
+        return result;
+    }
+
+    public Optional<LeaderboardRank> rankOf(Long projectId) {
+        Entry e = byProject.get(projectId);
+        if (e == null) {
+            return Optional.empty();
+        }
+        Board board = byHackathon.get(e.hackathonId());
+        return Optional.of(LeaderboardRank.builder()
+                .projectId(e.projectId())
+                .hackathonId(e.hackathonId())
+                .score(e.score())
+                .globalRank(global.rankOf(e))
+                .globalTotal(global.ordered.size())
+                .hackathonRank(board != null ? board.rankOf(e) : 0)
+                .hackathonTotal(board != null ? board.ordered.size() : 0)
+                .build());
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals (caller holds writeLock)
+    // -------------------------------------------------------------------------
+
+    private void add(Entry e) {
+        byProject.put(e.projectId(), e);
+        global.add(e);
+        byHackathon.computeIfAbsent(e.hackathonId(), id -> new Board()).add(e);
+    }
+
+    private void delete(Entry e) {
+        byProject.remove(e.projectId());
+        global.remove(e);
+        Board board = byHackathon.get(e.hackathonId());
+        if (board != null) {
+            board.remove(e);
+        }
+    }
+
+    private record Entry(long projectId, long hackathonId, int score,
+            LocalDateTime submittedAt, ProjectResponse view) {
+
+        static Entry of(ProjectResponse p) {
+            int score = p.getScore() != null ? Math.max(0, Math.min(MAX_SCORE, p.getScore())) : 0;
+            LocalDateTime submittedAt = p.getSubmittedAt() != null ? p.getSubmittedAt() : LocalDateTime.MIN;
+            return new Entry(p.getId(), p.getHackathonId(), score, submittedAt, p);
+        }
+    }
+
+    private static final class Board {
+        final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>(ORDER);
+        // Per score, that score's entries in ORDER; replaced, never mutated
+        final AtomicReferenceArray<Entry[]> ties = new AtomicReferenceArray<>(MAX_SCORE + 1);
+
+        Board() {
+            for (int s = 0; s <= MAX_SCORE; s++) {
+                ties.set(s, NO_ENTRIES);
+            }
+        }
+
+        void add(Entry e) {
+            if (ordered.add(e)) {
+                Entry[] current = ties.get(e.score());
+                int at = -Arrays.binarySearch(current, e, ORDER) - 1;
+                Entry[] next = new Entry[current.length + 1];
+                System.arraycopy(current, 0, next, 0, at);
+                next[at] = e;
+                System.arraycopy(current, at, next, at + 1, current.length - at);
+                ties.set(e.score(), next);
+            }
+        }
+
+        void remove(Entry e) {
+            if (ordered.remove(e)) {
+                Entry[] current = ties.get(e.score());
+                int at = Arrays.binarySearch(current, e, ORDER);
+                Entry[] next = new Entry[current.length - 1];
+                System.arraycopy(current, 0, next, 0, at);
+                System.arraycopy(current, at + 1, next, at, current.length - at - 1);
+                ties.set(e.score(), next);
+            }
+        }
+
+        /** Rebuilds ties from ordered, after bulk changes made to ordered directly. */
+        void reindexTies() {
+            List<List<Entry>> byScore = new ArrayList<>(MAX_SCORE + 1);
+            for (int s = 0; s <= MAX_SCORE; s++) {
+                byScore.add(new ArrayList<>());
+            }
+            for (Entry e : ordered) {
+                byScore.get(e.score()).add(e);
+            }
+            for (int s = 0; s <= MAX_SCORE; s++) {
+                ties.set(s, byScore.get(s).toArray(NO_ENTRIES));
+            }
+        }
+
+        int rankOf(Entry e) {
+            int above = 0;
+            for (int s = e.score() + 1; s <= MAX_SCORE; s++) {
+                above += ties.get(s).length;
+            }
+            int at = Arrays.binarySearch(ties.get(e.score()), e, ORDER);
+            // Not found only if a writer removed e meanwhile: rank at its insertion point
+            above += at >= 0 ? at : -at - 1;
+            return above + 1;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.LeaderboardEntry;
+import com.example.demo.dto.LeaderboardUpdate;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.ServiceUnavailableException;
+import com.example.demo.repository.HackathonRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live per-hackathon leaderboards over Server-Sent Events.
+ *
+ * (P24) Display screens and judges' browsers used to poll the leaderboard
+ * endpoints, each poll re-reading and re-serializing the table. A stream
+ * subscriber instead gets the hackathon's top-N once on connect
+ * ("snapshot"), then only the rows that changed ("delta").
+ *
+ * ProjectService calls changed() after commit, once LeaderboardEngine has
+ * the new scores; that only marks the hackathon dirty. A scheduled flush
+ * (every leaderboard.stream.min-interval-ms) diffs the top-N against what
+ * was last sent, serializes the delta once and hands the same frame to
+ * every subscriber. Any number of evaluations between two flushes coalesce
+ * into one event, so each stream gets at most 1000 / min-interval-ms
+ * updates per second.
+ *
+ * Every subscriber has a bounded buffer drained by a small sender pool.
+ * A client that falls leaderboard.stream.buffer-size events behind is
+ * dropped (its stream is completed; EventSource reconnects and gets a
+ * fresh snapshot), so one slow consumer never holds memory or stalls the
+ * others. Snapshots are taken from the state last broadcast, so a
+ * snapshot plus the deltas that follow it always add up to the current
+ * board.
+ *
+ * Like LeaderboardEngine, streams are per-node and only see this node's
+ * writes.
+ */
+@Component
+public class LeaderboardStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardStream.class);
+
+    @Autowired
+    private LeaderboardEngine leaderboardEngine;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${leaderboard.stream.top-n:20}")
+    private int topN;
+
+    @Value("${leaderboard.stream.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${leaderboard.stream.max-subscribers:2000}")
+    private int maxSubscribers;
+
+    @Value("${leaderboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${leaderboard.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ThreadPoolExecutor sender;
+
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        // Unbounded queue, but a subscriber never has more than one drain task queued
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "leaderboard-stream-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        ExecutorServiceMetrics.monitor(meterRegistry, sender, "leaderboardStream");
+        Gauge.builder("hacknation.leaderboard_stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open leaderboard SSE streams")
+                .register(meterRegistry);
+        dropped = Counter.builder("hacknation.leaderboard_stream.dropped")
+                .description("Leaderboard streams closed because the client fell too far behind")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(Channel::close);
+        sender.shutdownNow();
+    }
+
+    // -------------------------------------------------------------------------
+    // Subscriptions
+    // -------------------------------------------------------------------------
+
+    /** Opens a stream; its first event is the hackathon's current top-N. */
+    public SseEmitter subscribe(Long hackathonId) {
+        if (!hackathonRepository.existsById(hackathonId)) {
+            throw new ResourceNotFoundException("Hackathon not found with id: " + hackathonId);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open leaderboard streams, try again later");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        channels.computeIfAbsent(hackathonId, Channel::new).join(subscriber);
+        return emitter;
+    }
+
+    // -------------------------------------------------------------------------
+    // Changes (call after commit, once LeaderboardEngine is up to date)
+    // -------------------------------------------------------------------------
+
+    public void changed(Long hackathonId) {
+        Channel channel = hackathonId != null ? channels.get(hackathonId) : null;
+        if (channel != null) {
+            channel.dirty = true;
+        }
+    }
+
+    /** Ends the hackathon's streams. */
+    public void hackathonDeleted(Long hackathonId) {
+        Channel channel = channels.remove(hackathonId);
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Fan-out
+    // -------------------------------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${leaderboard.stream.min-interval-ms:250}")
+    public void flush() {
+        for (Channel channel : channels.values()) {
+            if (channel.dirty) {
+                channel.flush();
+            }
+        }
+    }
+
+    /** A comment line, so dead connections are noticed and proxies keep idle ones open. */
+    @Scheduled(fixedDelayString = "${leaderboard.stream.heartbeat-ms:15000}",
+            initialDelayString = "${leaderboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("keep-alive").build();
+        channels.values().forEach(channel -> channel.broadcast(frame));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private List<LeaderboardEntry> currentTop(long hackathonId) {
+        List<ProjectResponse> top = leaderboardEngine.top(hackathonId, topN);
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            ProjectResponse p = top.get(i);
+            entries.add(LeaderboardEntry.builder()
+                    .rank(i + 1)
+                    .projectId(p.getId())
+                    .title(p.getTitle())
+                    .submittedByName(p.getSubmittedByName())
+                    .score(p.getScore())
+                    .status(p.getStatus())
+                    .build());
+        }
+        return entries;
+    }
+
+    private Set<DataWithMediaType> frame(String name, LeaderboardUpdate update) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(update.getSequence()))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(update))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize leaderboard update", e);
+        }
+    }
+
+    /**
+     * One hackathon's subscribers and the top-N they were last sent. The
+     * lock orders snapshots against deltas; it is never held while writing
+     * to a client.
+     */
+    private final class Channel {
+        final long hackathonId;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final ReentrantLock lock = new ReentrantLock();
+        volatile boolean dirty;
+        boolean primed;
+        boolean closed;
+        long sequence;
+        List<LeaderboardEntry> sent = List.of();
+
+        Channel(Long hackathonId) {
+            this.hackathonId = hackathonId;
+        }
+
+        void join(Subscriber subscriber) {
+            lock.lock();
+            try {
+                if (closed) {
+                    subscriber.end();
+                    return;
+                }
+                if (!primed) {
+                    flushLocked();
+                }
+                subscriber.channel = this;
+                subscribers.add(subscriber);
+                subscriber.offer(frame("snapshot", new LeaderboardUpdate(hackathonId, sequence, sent, List.of())));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void flush() {
+            lock.lock();
+            try {
+                flushLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void flushLocked() {
+            // Cleared before reading: a change racing the read marks it dirty again.
+            // Until warm-up completes, keep re-reading on every flush.
+            primed = leaderboardEngine.isReady();
+            dirty = !primed;
+            List<LeaderboardEntry> next = currentTop(hackathonId);
+            Map<Long, LeaderboardEntry> previous = new HashMap<>();
+            sent.forEach(e -> previous.put(e.getProjectId(), e));
+
+            List<LeaderboardEntry> changed = new ArrayList<>();
+            for (LeaderboardEntry entry : next) {
+                if (!entry.equals(previous.remove(entry.getProjectId()))) {
+                    changed.add(entry);
+                }
+            }
+            sent = next;
+            if (changed.isEmpty() && previous.isEmpty()) {
+                return;
+            }
+            sequence++;
+            if (!subscribers.isEmpty()) {
+                broadcast(frame("delta", new LeaderboardUpdate(hackathonId, sequence, changed,
+                        List.copyOf(previous.keySet()))));
+            }
+        }
+
+        void broadcast(Set<DataWithMediaType> frame) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+            } finally {
+                lock.unlock();
+            }
+            subscribers.forEach(Subscriber::end);
+        }
+    }
+
+    /** One open stream: a bounded buffer, drained on the sender pool. */
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile Channel channel;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                dropped.increment();
+                logger.debug("Dropping slow leaderboard stream subscriber");
+                end();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed.get() && (frame = buffer.poll()) != null) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the stream already completed
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed.get() && !buffer.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        /**
+         * Completes the stream. On the sender pool: complete() waits for a
+         * send() in progress, which may be stuck on a slow client.
+         */
+        void end() {
+            close();
+            sender.execute(emitter::complete);
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                Channel current = channel;
+                if (current != null) {
+                    current.subscribers.remove(this);
+                }
+                subscriberCount.decrementAndGet();
+                buffer.clear();
+            }
+        }
+    }
+}
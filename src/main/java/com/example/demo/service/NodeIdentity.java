@@ -0,0 +1,33 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identifies this running instance to the other nodes sharing the
+ * database: the holder of an OutboxLease, the origin of an outbox event. Random per boot, so a
+ * restarted node never mistakes an earlier run's rows for its own.
+ */
+@Component
+public class NodeIdentity {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeIdentity.class);
+
+    private final String id = UUID.randomUUID().toString();
+
+    public NodeIdentity() {
+        logger.info("Node id {}", id);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /** Whether the given node id (an event's origin, say) is this node. */
+    public boolean isLocal(String nodeId) {
+        return id.equals(nodeId);
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.demo.service;
+
+import com.example.demo.model.OutboxEvent;
+import com.example.demo.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Relays committed outbox events to the DomainEventRelay.
+ *
+ * (P25) Runs when a transaction that published events commits, and every
+ * outbox.dispatcher.poll-interval-ms to pick up anything a wake-up missed
+ * (events committed before a restart, failed deliveries). A pass pages
+ * through the pending events by id in batches of
+ * outbox.dispatcher.batch-size, relays them one by one, and marks the
+ * delivered ones with one JDBC batch, numbering them with the next
+ * delivery positions (OutboxFollower replays them on the other nodes in
+ * that order).
+ *
+ * Guarantees:
+ * - At-least-once: an event is marked only after relay() returned, so a
+ * crash in between redelivers it. Listeners must be idempotent.
+ * - Ordered per aggregate: ids only roughly follow time (id blocks from
+ * different nodes interleave), so within a batch each aggregate's events
+ * are relayed by sequence, starting from its lowest pending sequence. An
+ * event whose predecessor is still pending on a later page waits for the
+ * next pass. When one fails, the rest of its aggregate is held back until
+ * it succeeds (or is parked after max-attempts); other aggregates carry
+ * on.
+ *
+ * One node dispatches at a time, enforced in the database: a pass
+ * takes or renews the "dispatcher" OutboxLease before each batch, and
+ * stops if another node holds it. The dispatcher can therefore run on every
+ * node; the others take over within outbox.dispatcher.lease-ms of the
+ * holder stopping (at once on a clean shutdown, which releases it).
+ * Marking a batch renews the lease in the same transaction and is rolled
+ * back if the lease was lost meanwhile (a pause longer than the lease), so
+ * those events are relayed again by the new holder rather than marked by
+ * two. Lease times come from each node's clock; keep clocks in sync to
+ * well within the lease.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private static final String LEASE = "dispatcher";
+    private static final String TAKE_LEASE_SQL = "UPDATE outbox_leases SET owner = ?, expires_at = ? "
+            + "WHERE name = ? AND (owner = ? OR expires_at < ?)";
+    private static final String INSERT_LEASE_SQL = "INSERT INTO outbox_leases (name, owner, expires_at, last_position) "
+            + "VALUES (?, ?, ?, 0)";
+    private static final String RENEW_LEASE_SQL = "UPDATE outbox_leases SET expires_at = ? "
+            + "WHERE name = ? AND owner = ?";
+    private static final String CLAIM_POSITIONS_SQL = "UPDATE outbox_leases SET expires_at = ?, "
+            + "last_position = last_position + ? WHERE name = ? AND owner = ?";
+    private static final String LAST_POSITION_SQL = "SELECT last_position FROM outbox_leases WHERE name = ?";
+    private static final String MARK_SQL = "UPDATE outbox_events SET dispatched_at = ?, dispatched_by = ?, "
+            + "delivery_position = ? WHERE id = ?";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DomainEventRelay relay;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NodeIdentity node;
+
+    @Value("${outbox.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatcher.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatcher.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+
+    private ExecutorService wakeExecutor;
+
+    private TransactionTemplate transaction;
+
+    private Counter dispatched;
+
+    private Counter failed;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        wakeExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "outbox-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        dispatched = Counter.builder("hacknation.outbox.dispatched")
+                .description("Outbox events relayed")
+                .register(meterRegistry);
+        failed = Counter.builder("hacknation.outbox.failed")
+                .description("Outbox event deliveries that threw")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeExecutor.shutdownNow();
+        try {
+            // Let another node take over now rather than when the lease expires
+            jdbcTemplate.update(RENEW_LEASE_SQL, LocalDateTime.now(), LEASE, node.id());
+        } catch (DataAccessException e) {
+            logger.warn("Could not release the outbox dispatcher lease: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Triggers
+    // -------------------------------------------------------------------------
+
+    /** Dispatch soon on the dispatcher thread; wake-ups arriving meanwhile coalesce. */
+    public void wake() {
+        if (enabled && wakeQueued.compareAndSet(false, true)) {
+            wakeExecutor.execute(() -> {
+                wakeQueued.set(false);
+                dispatchPending();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.poll-interval-ms:1000}",
+            initialDelayString = "${outbox.dispatcher.poll-interval-ms:1000}")
+    public void poll() {
+        if (enabled) {
+            dispatchPending();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Integer deleted = transaction.execute(status ->
+                outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} dispatched outbox events", deleted);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Dispatch
+    // -------------------------------------------------------------------------
+
+    /**
+     * One pass over the pending events. Returns how many were delivered;
+     * failed ones are retried by the next pass. Delivers nothing while
+     * another node holds the lease.
+     *
+     * Serialized with a ReentrantLock rather than synchronized: relaying
+     * and marking do JDBC I/O (see StatsCounterService.reconcile()).
+     */
+    public int dispatchPending() {
+        dispatchLock.lock();
+        try {
+            int total = 0;
+            long after = Long.MIN_VALUE;
+            while (takeLease()) {
+                long from = after;
+                Batch batch = transaction.execute(status -> loadBatch(from));
+                if (batch == null || batch.events().isEmpty()) {
+                    return total;
+                }
+                int delivered = deliver(batch);
+                if (delivered < 0) {
+                    return total;
+                }
+                total += delivered;
+                if (batch.events().size() < batchSize) {
+                    return total;
+                }
+                after = batch.events().get(batch.events().size() - 1).getId();
+            }
+            return total;
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /** Takes the lease if free or expired, or renews it if held; false if another node holds it. */
+    private boolean takeLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseMs, ChronoUnit.MILLIS);
+        if (jdbcTemplate.update(TAKE_LEASE_SQL, node.id(), expiresAt, LEASE, node.id(), now) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_LEASE_SQL, LEASE, node.id(), expiresAt) > 0;
+        } catch (DuplicateKeyException e) {
+            // The row exists and another node holds it
+            return false;
+        }
+    }
+
+    /** The last delivery position handed out, cluster-wide; 0 before the first dispatch. */
+    long lastDeliveryPosition() {
+        List<Long> last = jdbcTemplate.queryForList(LAST_POSITION_SQL, Long.class, LEASE);
+        return last.isEmpty() ? 0 : last.get(0);
+    }
+
+    /** A page of pending events, and the lowest pending sequence of each of their aggregates. */
+    private record Batch(List<OutboxEvent> events, Map<String, Long> heads) {
+    }
+
+    private Batch loadBatch(long after) {
+        List<OutboxEvent> events = outboxEventRepository.findPendingAfter(after, PageRequest.ofSize(batchSize));
+        Map<String, Long> heads = new HashMap<>();
+        if (!events.isEmpty()) {
+            Set<Long> aggregateIds = events.stream().map(OutboxEvent::getAggregateId).collect(Collectors.toSet());
+            for (Object[] head : outboxEventRepository.findPendingHeads(aggregateIds)) {
+                heads.put(head[0] + ":" + head[1], (Long) head[2]);
+            }
+        }
+        return new Batch(events, heads);
+    }
+
+    /** Relays the batch; returns how many were delivered, or -1 if the lease was lost meanwhile. */
+    private int deliver(Batch batch) {
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent row : batch.events()) {
+            byAggregate.computeIfAbsent(aggregateKey(row), key -> new ArrayList<>()).add(row);
+        }
+        List<Long> delivered = new ArrayList<>(batch.events().size());
+        for (Map.Entry<String, List<OutboxEvent>> aggregate : byAggregate.entrySet()) {
+            List<OutboxEvent> rows = aggregate.getValue();
+            rows.sort(Comparator.comparingLong(OutboxEvent::getSequence));
+            long next = batch.heads().getOrDefault(aggregate.getKey(), rows.get(0).getSequence());
+            for (OutboxEvent row : rows) {
+                if (row.getSequence() != next) {
+                    // Its predecessor is on a later page; relayed on the next pass
+                    break;
+                }
+                try {
+                    relay.relay(toDomainEvent(row));
+                    delivered.add(row.getId());
+                    next++;
+                } catch (RuntimeException | IOException e) {
+                    recordFailure(row, e);
+                    break;
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            Boolean marked = transaction.execute(status -> {
+                // Holds the lease row until commit, so no other node can take it over mid-mark
+                if (jdbcTemplate.update(CLAIM_POSITIONS_SQL, now.plus(leaseMs, ChronoUnit.MILLIS), delivered.size(),
+                        LEASE, node.id()) == 0) {
+                    return false;
+                }
+                long position = jdbcTemplate.queryForObject(LAST_POSITION_SQL, Long.class, LEASE) - delivered.size();
+                List<Object[]> rows = new ArrayList<>(delivered.size());
+                for (Long id : delivered) {
+                    rows.add(new Object[]{now, node.id(), ++position, id});
+                }
+                jdbcTemplate.batchUpdate(MARK_SQL, rows);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(marked)) {
+                logger.warn("Outbox dispatcher lease lost; {} relayed events left for the new holder",
+                        delivered.size());
+                return -1;
+            }
+            dispatched.increment(delivered.size());
+        }
+        return delivered.size();
+    }
+
+    private static String aggregateKey(OutboxEvent row) {
+        return row.getAggregateType() + ":" + row.getAggregateId();
+    }
+
+    private void recordFailure(OutboxEvent row, Exception e) {
+        failed.increment();
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        String lastError = error;
+        transaction.executeWithoutResult(status ->
+                outboxEventRepository.recordFailure(row.getId(), lastError, maxAttempts, LocalDateTime.now()));
+        if (row.getAttempts() + 1 >= maxAttempts) {
+            logger.error("Outbox event {} ({} {}:{}) parked after {} attempts",
+                    row.getId(), row.getEventType(), row.getAggregateType(), row.getAggregateId(), maxAttempts, e);
+        } else {
+            logger.warn("Outbox event {} ({}) failed, will retry: {}", row.getId(), row.getEventType(), lastError);
+        }
+    }
+
+    DomainEvent toDomainEvent(OutboxEvent row) throws IOException {
+        return new DomainEvent(row.getId(), row.getEventType(), row.getAggregateId(), row.getSequence(),
+                objectMapper.readValue(row.getPayload(), PAYLOAD_TYPE), row.getCreatedAt(), row.getOrigin());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.model.OutboxEvent;
+import com.example.demo.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Replays events dispatched by another node to this node's
+ * @EventListener(DomainEvent) methods.
+ *
+ * (P25) InProcessEventRelay only reaches the listeners of the node holding
+ * the dispatcher lease. Every node therefore follows the dispatched events
+ * in delivery order (OutboxEvent.deliveryPosition) every
+ * outbox.follower.poll-interval-ms, and publishes those it did not relay
+ * itself. So in-process listeners on every node see every event, once the
+ * dispatcher has relayed it, in the same per-aggregate order.
+ *
+ * The position is kept in memory and starts at the current end on boot:
+ * what was dispatched before is already in the DB state the node warms its
+ * caches and indexes from. A listener that throws stops the pass, and the
+ * event is offered again on the next one; after
+ * outbox.dispatcher.max-attempts failures it is skipped on this node with
+ * an error. Events purged (outbox.retention-hours) before a node reached
+ * them are missed by it.
+ *
+ * Only with the in-process relay: a broker-backed relay fans events out
+ * to every node itself.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay", havingValue = "in-process", matchIfMissing = true)
+public class OutboxFollower {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxFollower.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NodeIdentity node;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.follower.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatcher.max-attempts:10}")
+    private int maxAttempts;
+
+    private final ReentrantLock followLock = new ReentrantLock();
+
+    private long position;
+
+    /** Failed attempts at the event after position. */
+    private int failures;
+
+    private Counter replayed;
+
+    @PostConstruct
+    public void init() {
+        position = outboxDispatcher.lastDeliveryPosition();
+        replayed = Counter.builder("hacknation.outbox.replayed")
+                .description("Outbox events dispatched by another node and published on this one")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.follower.poll-interval-ms:1000}",
+            initialDelayString = "${outbox.follower.poll-interval-ms:1000}")
+    public void poll() {
+        if (enabled) {
+            follow();
+        }
+    }
+
+    /**
+     * Publishes the events dispatched since the last pass by other nodes.
+     * Returns how many it handed to listeners. Serialized with a ReentrantLock, as
+     * OutboxDispatcher.dispatchPending() is.
+     */
+    public int follow() {
+        followLock.lock();
+        try {
+            int total = 0;
+            while (true) {
+                List<OutboxEvent> rows = outboxEventRepository.findDeliveredAfter(position,
+                        PageRequest.ofSize(batchSize));
+                for (OutboxEvent row : rows) {
+                    if (!node.isLocal(row.getDispatchedBy())) {
+                        if (!publish(row)) {
+                            return total;
+                        }
+                        total++;
+                    }
+                    position = row.getDeliveryPosition();
+                }
+                if (rows.size() < batchSize) {
+                    return total;
+                }
+            }
+        } finally {
+            followLock.unlock();
+        }
+    }
+
+    /** False if a listener threw and the event should be offered again. */
+    private boolean publish(OutboxEvent row) {
+        try {
+            eventPublisher.publishEvent(outboxDispatcher.toDomainEvent(row));
+            replayed.increment();
+            failures = 0;
+            return true;
+        } catch (RuntimeException | IOException e) {
+            if (++failures < maxAttempts) {
+                logger.warn("Replaying outbox event {} ({}) failed, will retry: {}",
+                        row.getId(), row.getEventType(), e.getMessage());
+                return false;
+            }
+            logger.error("Outbox event {} ({} {}:{}) skipped on this node after {} attempts",
+                    row.getId(), row.getEventType(), row.getAggregateType(), row.getAggregateId(), maxAttempts, e);
+            failures = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CursorPage;
+import com.example.demo.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (cursor) pagination helpers shared by the listing services.
+ *
+ * A cursor is the sort key of the last row on the previous page, encoded
+ * as URL-safe Base64 so clients treat it as opaque. Every listing sorts on
+ * a unique tail column (id), so the order is total and pages never skip or
+ * repeat rows when data is inserted between requests.
+ *
+ * Pages are fetched with limit + 1 rows; the extra row only tells us
+ * whether another page exists and is not returned.
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    /**
+     * Clamp a client-supplied limit into [1, MAX_LIMIT].
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Pageable that fetches one row more than the page size.
+     */
+    public static Pageable probe(int limit) {
+        return PageRequest.ofSize(limit + 1);
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into exactly `parts` key components.
+     * Returns null when no cursor was supplied (first page).
+     */
+    public static String[] decode(String cursor, int parts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\|", -1);
+            if (keys.length != parts) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Decode a single-key id cursor; 0 when absent (ids start at 1).
+     */
+    public static long decodeId(String cursor) {
+        String[] keys = decode(cursor, 1);
+        if (keys == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Trim a limit + 1 probe result into a page, derive the next cursor from
+     * the last returned row, and map the returned rows to DTOs.
+     */
+    public static <T, R> CursorPage<R> toPage(List<T> rows, int limit,
+            Function<T, String> cursorOf, Function<T, R> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<T> kept = hasMore ? rows.subList(0, limit) : rows;
+        String next = hasMore ? cursorOf.apply(kept.get(kept.size() - 1)) : null;
+        return CursorPage.<R>builder()
+                .items(kept.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(next)
+                .hasMore(hasMore)
+                .limit(limit)
+                .build();
+    }
+}
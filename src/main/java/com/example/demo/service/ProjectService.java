@@ -1,20 +1,36 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.EvaluationBatchError;
+import com.example.demo.dto.EvaluationBatchResponse;
 import com.example.demo.dto.EvaluationRequest;
+import com.example.demo.dto.LeaderboardRank;
 import com.example.demo.dto.ProjectRequest;
 import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.TechStackFacets;
 import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.*;
 import com.example.demo.repository.*;
+import com.example.demo.service.ResourceVersions.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +40,18 @@ import java.util.stream.Collectors;
  * - (H3) Score thresholds extracted as named constants — no more magic numbers.
  * - Evaluation validates judge assignment is not null before checking.
  * - toResponse() handles null hackathon/submitter safely.
+ * - (P3) Leaderboard reads are served by LeaderboardEngine; submissions and
+ * evaluations push their new state into it after commit.
+ * - (P16) Tech-stack facets and tag filters are served by TechStackIndex,
+ * maintained the same way.
+ * - (P21) Reads select ProjectResponse rows directly (see
+ * ProjectRepository.RESPONSE_SELECT) — one statement per listing instead
+ * of two lazy loads per project. toResponse() is only used for entities
+ * a write has just loaded.
+ * - (P24) Submissions and evaluations also mark the hackathon's
+ * LeaderboardStream dirty after commit; subscribers get the rank changes.
+ * - (P25) Submissions and evaluations publish PROJECT_SUBMITTED /
+ * PROJECT_EVALUATED to the outbox in the same transaction (DomainEvents).
  */
 @Service
 @Transactional
@@ -52,6 +80,30 @@ public class ProjectService {
     @Autowired
     private JudgeRepository judgeRepository;
 
+    @Autowired
+    private LeaderboardEngine leaderboardEngine;
+
+    @Autowired
+    private StatsCounterService statsCounterService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TechStackIndex techStackIndex;
+
+    @Autowired
+    private HackathonResponseCache hackathonResponseCache;
+
+    @Autowired
+    private LeaderboardStream leaderboardStream;
+
+    @Autowired
+    private DomainEvents domainEvents;
+
     // -------------------------------------------------------------------------
     // Submission
     // -------------------------------------------------------------------------
@@ -97,9 +149,22 @@ public class ProjectService {
                 .build();
 
         Project saved = projectRepository.save(project);
+        domainEvents.publish(DomainEventType.PROJECT_SUBMITTED, saved.getId(), Map.of(
+                "hackathonId", hackathon.getId(),
+                "submittedById", user.getId()));
+        statsCounterService.projectSubmitted();
+        resourceVersions.changed(Resource.PROJECTS);
+        hackathonResponseCache.invalidate(hackathon.getId());
         logger.info("Project '{}' submitted by {} for hackathon '{}'",
                 saved.getTitle(), userEmail, hackathon.getName());
-        return toResponse(saved);
+        ProjectResponse response = toResponse(saved);
+        AfterCommit.run(() -> {
+            leaderboardEngine.upsert(response);
+            leaderboardStream.changed(response.getHackathonId());
+            searchIndex.indexProject(response);
+            techStackIndex.upsert(response);
+        });
+        return response;
     }
 
     // -------------------------------------------------------------------------
@@ -125,7 +190,116 @@ public class ProjectService {
             }
         }
 
-        // FIX (H3): Use named constants instead of bare magic numbers
+        ProjectStatus status = applyEvaluation(project, request, judgeEmail, LocalDateTime.now());
+
+        // Increment judge's evaluation count
+        judgeRepository.findByUserIdAndHackathonId(judge.getId(), project.getHackathon().getId())
+                .ifPresent(j -> {
+                    j.incrementEvaluations();
+                    judgeRepository.save(j);
+                });
+
+        Project saved = projectRepository.save(project);
+        publishEvaluated(saved);
+        resourceVersions.changed(Resource.PROJECTS);
+        logger.info("Project '{}' evaluated by {} — Score: {}, Status: {}",
+                saved.getTitle(), judgeEmail, request.getScore(), status);
+        ProjectResponse response = toResponse(saved);
+        AfterCommit.run(() -> {
+            leaderboardEngine.upsert(response);
+            leaderboardStream.changed(response.getHackathonId());
+            searchIndex.indexProject(response);
+            techStackIndex.upsert(response);
+        });
+        return response;
+    }
+
+    /**
+     * Evaluate several projects of one hackathon in a single transaction.
+     *
+     * (P19) One judge lookup, one assignment lookup and one IN query (with
+     * hackathon and submitter fetched) for all projects; the updates go out
+     * as one JDBC batch at flush (hibernate.jdbc.batch_size), and the judge's
+     * projectsEvaluated is incremented once by the number applied.
+     *
+     * Items that cannot be applied (unknown project, project of another
+     * hackathon, same project twice in the batch) are reported per item and
+     * skipped; the others are still applied. Not being assigned to the
+     * hackathon fails the whole batch, as for a single evaluation.
+     */
+    public EvaluationBatchResponse evaluateProjects(Long hackathonId, List<EvaluationRequest> requests,
+            String judgeEmail) {
+        User judgeUser = userRepository.findByEmail(judgeEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Judge not found"));
+        Judge judge = judgeRepository.findByUserIdAndHackathonId(judgeUser.getId(), hackathonId)
+                .orElseThrow(() -> new BadRequestException("You are not assigned as a judge for this hackathon"));
+
+        Set<Long> ids = requests.stream().map(EvaluationRequest::getProjectId).collect(Collectors.toSet());
+        Map<Long, Project> projects = projectRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> seen = new HashSet<>();
+        List<Project> evaluated = new ArrayList<>(requests.size());
+        List<EvaluationBatchError> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EvaluationRequest request = requests.get(i);
+            Project project = projects.get(request.getProjectId());
+            String error = null;
+            if (!seen.add(request.getProjectId())) {
+                error = "Project appears more than once in this batch";
+            } else if (project == null) {
+                error = "Project not found with id: " + request.getProjectId();
+            } else if (!hackathonId.equals(project.getHackathon().getId())) {
+                error = "Project does not belong to hackathon " + hackathonId;
+            }
+            if (error != null) {
+                errors.add(new EvaluationBatchError(i, request.getProjectId(), error));
+                continue;
+            }
+            applyEvaluation(project, request, judgeEmail, now);
+            evaluated.add(project);
+        }
+
+        List<ProjectResponse> results = evaluated.stream().map(this::toResponse).collect(Collectors.toList());
+        if (!evaluated.isEmpty()) {
+            judge.setProjectsEvaluated(judge.getProjectsEvaluated() + evaluated.size());
+            evaluated.forEach(this::publishEvaluated);
+            resourceVersions.changed(Resource.PROJECTS);
+            AfterCommit.run(() -> {
+                results.forEach(response -> {
+                    leaderboardEngine.upsert(response);
+                    searchIndex.indexProject(response);
+                    techStackIndex.upsert(response);
+                });
+                leaderboardStream.changed(hackathonId);
+            });
+        }
+        logger.info("{} evaluated {} projects in hackathon {} ({} rejected)",
+                judgeEmail, evaluated.size(), hackathonId, errors.size());
+        return EvaluationBatchResponse.builder()
+                .requested(requests.size())
+                .evaluated(results.size())
+                .failed(errors.size())
+                .results(results)
+                .errors(errors)
+                .build();
+    }
+
+    private void publishEvaluated(Project project) {
+        domainEvents.publish(DomainEventType.PROJECT_EVALUATED, project.getId(), Map.of(
+                "hackathonId", project.getHackathon().getId(),
+                "score", project.getScore(),
+                "status", project.getStatus(),
+                "evaluatedBy", project.getEvaluatedBy()));
+    }
+
+    /**
+     * Score, feedback and the status derived from the score.
+     * FIX (H3): Use named constants instead of bare magic numbers
+     */
+    private ProjectStatus applyEvaluation(Project project, EvaluationRequest request, String judgeEmail,
+            LocalDateTime now) {
         ProjectStatus status;
         if (request.getScore() >= WINNER_SCORE_THRESHOLD) {
             status = ProjectStatus.WINNER;
@@ -139,19 +313,8 @@ public class ProjectService {
         project.setJudgeFeedback(request.getFeedback());
         project.setStatus(status);
         project.setEvaluatedBy(judgeEmail);
-        project.setEvaluatedAt(LocalDateTime.now());
-
-        // Increment judge's evaluation count
-        judgeRepository.findByUserIdAndHackathonId(judge.getId(), project.getHackathon().getId())
-                .ifPresent(j -> {
-                    j.incrementEvaluations();
-                    judgeRepository.save(j);
-                });
-
-        Project saved = projectRepository.save(project);
-        logger.info("Project '{}' evaluated by {} — Score: {}, Status: {}",
-                saved.getTitle(), judgeEmail, request.getScore(), status);
-        return toResponse(saved);
+        project.setEvaluatedAt(now);
+        return status;
     }
 
     // -------------------------------------------------------------------------
@@ -160,24 +323,105 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getAllProjects(Long hackathonId) {
-        List<Project> projects = hackathonId != null
-                ? projectRepository.findByHackathonId(hackathonId)
-                : projectRepository.findAll();
-        return projects.stream().map(this::toResponse).collect(Collectors.toList());
+        return hackathonId != null
+                ? projectRepository.findResponsesByHackathonId(hackathonId)
+                : projectRepository.findAllResponses();
+    }
+
+    /**
+     * Keyset-paginated project listing, optionally filtered by hackathon.
+     * Sort contract: id ASC.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> getProjectPage(Long hackathonId, String after, Integer limit) {
+        int pageSize = PageCursor.clampLimit(limit);
+        long afterId = PageCursor.decodeId(after);
+        List<ProjectResponse> rows = hackathonId != null
+                ? projectRepository.findResponsesByHackathonIdAfter(hackathonId, afterId, PageCursor.probe(pageSize))
+                : projectRepository.findResponsesAfter(afterId, PageCursor.probe(pageSize));
+        return PageCursor.toPage(rows, pageSize, p -> PageCursor.encode(p.getId()), p -> p);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getMyProjects(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return projectRepository.findBySubmittedById(user.getId())
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return projectRepository.findResponsesBySubmittedById(user.getId());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Top projects, globally or for one hackathon, from the in-memory index.
+     * Falls back to the DB only during the short window before warm-up.
+     * SUPPORTS: no transaction (and so no pooled connection) on the hot path.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<ProjectResponse> getLeaderboard(Long hackathonId, Integer limit) {
+        int size = PageCursor.clampLimit(limit);
+        if (leaderboardEngine.isReady()) {
+            return leaderboardEngine.top(hackathonId, size);
+        }
+        return hackathonId != null
+                ? projectRepository.findLeaderboardByHackathonId(hackathonId, PageRequest.ofSize(size))
+                : projectRepository.findLeaderboard(PageRequest.ofSize(size));
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<ProjectResponse> getLeaderboard() {
-        return projectRepository.findLeaderboard()
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return getLeaderboard(null, null);
+    }
+
+    /**
+     * Rank of one project, from the in-memory index. Falls back to the DB
+     * before warm-up, and for a project this node has not indexed (yet);
+     * 404 only when the project does not exist.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public LeaderboardRank getRank(Long projectId) {
+        if (leaderboardEngine.isReady()) {
+            Optional<LeaderboardRank> rank = leaderboardEngine.rankOf(projectId);
+            if (rank.isPresent()) {
+                return rank.get();
+            }
+        }
+        ProjectResponse p = projectRepository.findResponseById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        return LeaderboardRank.builder()
+                .projectId(p.getId())
+                .hackathonId(p.getHackathonId())
+                .score(p.getScore())
+                .globalRank((int) projectRepository.countRankedAhead(p.getScore(), p.getSubmittedAt(), p.getId()) + 1)
+                .globalTotal((int) projectRepository.countAllProjects())
+                .hackathonRank((int) projectRepository.countRankedAheadInHackathon(
+                        p.getHackathonId(), p.getScore(), p.getSubmittedAt(), p.getId()) + 1)
+                .hackathonTotal((int) projectRepository.countByHackathonId(p.getHackathonId()))
+                .build();
+    }
+
+    /**
+     * Tech-stack facet counts and tag-filtered projects for one hackathon,
+     * from the in-memory index. Falls back to the hackathon's rows only
+     * before warm-up.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public TechStackFacets getTechStackFacets(Long hackathonId, List<String> tags, String after, Integer limit) {
+        int size = PageCursor.clampLimit(limit);
+        if (techStackIndex.isReady()) {
+            return techStackIndex.facets(hackathonId, tags, after, size);
+        }
+        return TechStackIndex.facetsOf(hackathonId, projectRepository.findResponsesByHackathonId(hackathonId),
+                tags, after, size);
+    }
+
+    /**
+     * Load every project into the leaderboard and tech-stack indexes once
+     * the app is up (one query feeds both).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmLeaderboard() {
+        List<ProjectResponse> projects = projectRepository.findAllResponses();
+        leaderboardEngine.warm(projects);
+        techStackIndex.warm(projects);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Applies writes committed on other nodes to this node's in-memory caches
+ * and indexes.
+ *
+ * (P25) The services update those after commit on the node that made the
+ * write (read-your-writes), so events this node wrote are skipped here.
+ * Events from other nodes arrive through the outbox (InProcessEventRelay
+ * on the dispatching node, OutboxFollower on the others), typically within
+ * a poll interval of the commit. Every handler only invalidates or reloads
+ * current state, so redeliveries are harmless.
+ *
+ * (P3) Project events reload the project from the DB into the
+ * LeaderboardEngine and notify this node's SSE subscribers, so every node
+ * ranks every node's submissions and evaluations.
+ *
+ * (P15) Hackathon and project events re-read the row into the SearchIndex,
+ * so every node's writes become searchable everywhere.
+ *
+ * (P16) The same project reload and hackathon rename/delete keep the
+ * TechStackIndex facets current.
+ */
+@Component
+public class RemoteWriteListener {
+
+    @Autowired
+    private NodeIdentity node;
+
+    @Autowired
+    private HackathonResponseCache hackathonResponseCache;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private LeaderboardEngine leaderboardEngine;
+
+    @Autowired
+    private LeaderboardStream leaderboardStream;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TechStackIndex techStackIndex;
+
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (node.isLocal(event.origin())) {
+            return;
+        }
+        long id = event.aggregateId();
+        switch (event.type()) {
+            case HACKATHON_CREATED -> searchIndex.reindexHackathon(id);
+            case PARTICIPANT_REGISTERED -> hackathonResponseCache.invalidate(id);
+            case HACKATHON_STATUS_CHANGED -> {
+                hackathonResponseCache.invalidate(id);
+                searchIndex.reindexHackathon(id);
+            }
+            case HACKATHON_UPDATED -> {
+                hackathonResponseCache.invalidate(id);
+                leaderboardEngine.renameHackathon(id, event.stringValue("name"));
+                searchIndex.reindexHackathon(id);
+                techStackIndex.renameHackathon(id, event.stringValue("name"));
+            }
+            case HACKATHON_DELETED -> {
+                hackathonResponseCache.invalidate(id);
+                leaderboardEngine.removeHackathon(id);
+                leaderboardStream.hackathonDeleted(id);
+                searchIndex.removeHackathon(id);
+                techStackIndex.removeHackathon(id);
+            }
+            case PROJECT_SUBMITTED -> {
+                hackathonResponseCache.invalidate(event.longValue("hackathonId"));
+                projectChanged(id, event.longValue("hackathonId"));
+            }
+            case PROJECT_EVALUATED -> projectChanged(id, event.longValue("hackathonId"));
+            default -> {
+            }
+        }
+    }
+
+    /** Current state, not the event's: a later write may already have committed. */
+    private void projectChanged(long projectId, Long hackathonId) {
+        Optional<ProjectResponse> project = projectRepository.findResponseById(projectId);
+        if (project.isPresent()) {
+            leaderboardEngine.upsert(project.get());
+            searchIndex.indexProject(project.get());
+            techStackIndex.upsert(project.get());
+        } else {
+            leaderboardEngine.remove(projectId);
+        }
+        leaderboardStream.changed(hackathonId);
+    }
+}
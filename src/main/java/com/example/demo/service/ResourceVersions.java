@@ -0,0 +1,113 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic change counters, one per resource kind plus a global one.
+ *
+ * Write paths call changed() inside their transaction; the bump happens
+ * after commit. Readers compare a remembered version with current() to
+ * tell whether anything they derived from the DB may be out of date,
+ * without running a query. Counters are per-node and start at 0 on boot.
+ *
+ * (P23) The same counters back conditional GETs: validators() turns the
+ * versions of the resources a response is derived from into a strong ETag
+ * and a Last-Modified time, so a poll that revalidates can be answered
+ * with 304 before any repository is touched. The ETag contains a per-boot
+ * epoch, so ETags from another node or an earlier run never match.
+ */
+@Component
+public class ResourceVersions {
+
+    public enum Resource {
+        USERS, HACKATHONS, REGISTRATIONS, PROJECTS
+    }
+
+    /** Validators for a response derived from some set of resources. */
+    public record Validators(String eTag, long lastModified) {
+    }
+
+    private final long bootMillis = System.currentTimeMillis();
+    private final String epoch = Long.toString(bootMillis, 36);
+
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Resource, AtomicLong> versions = new EnumMap<>(Resource.class);
+    private final Map<Resource, AtomicLong> modifiedAt = new EnumMap<>(Resource.class);
+
+    public ResourceVersions() {
+        for (Resource resource : Resource.values()) {
+            versions.put(resource, new AtomicLong());
+            modifiedAt.put(resource, new AtomicLong(bootMillis));
+        }
+    }
+
+    /**
+     * Bumps after commit, and after the transaction's other afterCommit
+     * callbacks: a reader that sees the new version also sees the caches
+     * and indexes those callbacks update.
+     */
+    public void changed(Resource... resources) {
+        AfterCommit.runLast(() -> {
+            long now = System.currentTimeMillis();
+            for (Resource resource : resources) {
+                modifiedAt.get(resource).accumulateAndGet(now, Math::max);
+                versions.get(resource).incrementAndGet();
+            }
+            global.incrementAndGet();
+        });
+    }
+
+    public long current(Resource resource) {
+        return versions.get(resource).get();
+    }
+
+    public long global() {
+        return global.get();
+    }
+
+    /** When any of the resources last changed on this node (boot time if never). */
+    public long lastModified(Resource... resources) {
+        long latest = bootMillis;
+        for (Resource resource : resources) {
+            latest = Math.max(latest, modifiedAt.get(resource).get());
+        }
+        return latest;
+    }
+
+    // -------------------------------------------------------------------------
+    // Conditional GET validators
+    // -------------------------------------------------------------------------
+
+    /**
+     * Validators for a response built only from this node's in-memory state
+     * (counters, indexes) that is kept current by the given resources' write
+     * paths. Read them before building the response: a write that commits
+     * in between then yields a body newer than its ETag, never older.
+     */
+    public Validators validators(String name, Resource... resources) {
+        long lastModified = lastModified(resources);
+        StringJoiner eTag = new StringJoiner(".", "\"" + name + "-" + epoch + "-", "\"");
+        for (Resource resource : resources) {
+            eTag.add(Long.toString(current(resource)));
+        }
+        return new Validators(eTag.toString(), lastModified);
+    }
+
+    /**
+     * Validators for a response read from the DB. Writes committed on other
+     * nodes do not move this node's counters, so the ETag also changes every
+     * windowMs and Last-Modified is never earlier than the current window's
+     * start; a revalidating client sees such writes within one window.
+     */
+    public Validators validators(String name, long windowMs, Resource... resources) {
+        Validators local = validators(name, resources);
+        long window = System.currentTimeMillis() / windowMs;
+        String eTag = local.eTag().substring(0, local.eTag().length() - 1) + "-w" + Long.toString(window, 36) + "\"";
+        return new Validators(eTag, Math.max(local.lastModified(), window * windowMs));
+    }
+}
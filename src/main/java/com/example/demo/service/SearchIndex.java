@@ -0,0 +1,406 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.HackathonResponse;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.SearchHit;
+import com.example.demo.model.Hackathon;
+import com.example.demo.model.Project;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Embedded Lucene full-text index over hackathons and projects.
+ *
+ * Hackathons are indexed on name, description and location; projects on
+ * title, description and techStack. Every query token must match some
+ * field, either exactly or as a prefix (exact matches score double), with
+ * name/title weighted above location/techStack above description. Results
+ * can be filtered by type, status and (for projects) hackathon.
+ *
+ * The write paths in HackathonService and ProjectService update documents
+ * after commit and refresh the searcher, so a write is searchable as soon
+ * as the call returns. Writes committed on other nodes are re-read from the
+ * DB by RemoteWriteListener. The index is rebuilt from the DB at startup; with
+ * search.index-dir set it lives on disk, otherwise in memory.
+ *
+ * Index failures are logged, never propagated — the DB write has already
+ * committed, and the next rebuild repairs the document.
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    public static final String TYPE_HACKATHON = "hackathon";
+    public static final String TYPE_PROJECT = "project";
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String STATUS = "status";
+    private static final String PARENT = "hackathonId";
+    private static final String PARENT_NAME = "hackathonName";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String LOCATION = "location";
+    private static final String TECH_STACK = "techStack";
+
+    // Searched text fields and their weights
+    private static final String[] FIELDS = { NAME, LOCATION, TECH_STACK, DESCRIPTION };
+    private static final float[] BOOSTS = { 3f, 1.5f, 1.5f, 1f };
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Value("${search.index-dir:}")
+    private String indexDir;
+
+    @Value("${search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Value("${search.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        writer = new IndexWriter(directory,
+                new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Search
+    // -------------------------------------------------------------------------
+
+    /**
+     * Relevance-ranked search. type, status and hackathonId are optional
+     * exact-match filters.
+     */
+    public List<SearchHit> search(String text, String type, String status, Long hackathonId, int limit) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        Set<String> tokens = tokenize(text);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        for (String token : tokens) {
+            query.add(tokenQuery(token), Occur.MUST);
+        }
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type)), Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status)), Occur.FILTER);
+        }
+        if (hackathonId != null) {
+            query.add(new TermQuery(new Term(PARENT, hackathonId.toString())), Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit);
+                StoredFields stored = searcher.storedFields();
+                List<SearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc sd : top.scoreDocs) {
+                    hits.add(toHit(stored.document(sd.doc), sd.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** One token: exact or prefix match in any searched field. */
+    private Query tokenQuery(String token) {
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        for (int i = 0; i < FIELDS.length; i++) {
+            anyField.add(new BoostQuery(new TermQuery(new Term(FIELDS[i], token)), BOOSTS[i] * 2), Occur.SHOULD);
+            if (token.length() >= MIN_PREFIX_LENGTH) {
+                anyField.add(new BoostQuery(new PrefixQuery(new Term(FIELDS[i], token)), BOOSTS[i]), Occur.SHOULD);
+            }
+        }
+        return anyField.build();
+    }
+
+    private Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static SearchHit toHit(Document doc, float score) {
+        String parent = doc.get(PARENT);
+        return SearchHit.builder()
+                .type(doc.get(TYPE))
+                .id(Long.valueOf(doc.get(ID)))
+                .title(doc.get(NAME))
+                .status(doc.get(STATUS))
+                .location(doc.get(LOCATION))
+                .techStack(doc.get(TECH_STACK))
+                .hackathonId(parent != null ? Long.valueOf(parent) : null)
+                .hackathonName(doc.get(PARENT_NAME))
+                .score(score)
+                .build();
+    }
+
+    // -------------------------------------------------------------------------
+    // Incremental updates (call after commit)
+    // -------------------------------------------------------------------------
+
+    /** Add or replace a hackathon; a rename is carried to its projects' hackathonName. */
+    public void indexHackathon(HackathonResponse h) {
+        indexHackathon(h.getId(), h.getName(), h.getDescription(), h.getLocation(), h.getStatus().name());
+    }
+
+    /** Re-read a hackathon written on another node; removed if it no longer exists. */
+    public void reindexHackathon(Long hackathonId) {
+        hackathonRepository.findById(hackathonId).ifPresentOrElse(
+                h -> indexHackathon(h.getId(), h.getName(), h.getDescription(), h.getLocation(), h.getStatus().name()),
+                () -> removeHackathon(hackathonId));
+    }
+
+    private void indexHackathon(Long id, String name, String description, String location, String status) {
+        try {
+            String previousName = storedName(TYPE_HACKATHON, id);
+            writer.updateDocument(new Term(KEY, key(TYPE_HACKATHON, id)),
+                    hackathonDoc(id, name, description, location, status));
+            if (previousName != null && !previousName.equals(name)) {
+                relabelProjects(id, name);
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            logger.warn("Search index update failed for hackathon {}: {}", id, e.getMessage());
+        }
+    }
+
+    public void indexProject(ProjectResponse p) {
+        try {
+            writer.updateDocument(new Term(KEY, key(TYPE_PROJECT, p.getId())),
+                    projectDoc(p.getId(), p.getTitle(), p.getDescription(), p.getTechStack(), p.getStatus().name(),
+                            p.getHackathonId(), p.getHackathonName()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            logger.warn("Search index update failed for project {}: {}", p.getId(), e.getMessage());
+        }
+    }
+
+    /** Remove a hackathon and (cascade) all of its projects. */
+    public void removeHackathon(Long hackathonId) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(TYPE_HACKATHON, hackathonId)),
+                    new Term(PARENT, hackathonId.toString()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            logger.warn("Search index delete failed for hackathon {}: {}", hackathonId, e.getMessage());
+        }
+    }
+
+    private String storedName(String type, Long id) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs top = searcher.search(new TermQuery(new Term(KEY, key(type, id))), 1);
+            return top.scoreDocs.length == 0 ? null
+                    : searcher.storedFields().document(top.scoreDocs[0].doc).get(NAME);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private void relabelProjects(Long hackathonId, String hackathonName) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TermQuery byParent = new TermQuery(new Term(PARENT, hackathonId.toString()));
+            int count = searcher.count(byParent);
+            if (count == 0) {
+                return;
+            }
+            StoredFields stored = searcher.storedFields();
+            for (ScoreDoc sd : searcher.search(byParent, count).scoreDocs) {
+                Document old = stored.document(sd.doc);
+                Long id = Long.valueOf(old.get(ID));
+                writer.updateDocument(new Term(KEY, key(TYPE_PROJECT, id)),
+                        projectDoc(id, old.get(NAME), old.get(DESCRIPTION), old.get(TECH_STACK), old.get(STATUS),
+                                hackathonId, hackathonName));
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Rebuild
+    // -------------------------------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (rebuildOnStartup || writer.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+
+    /** Re-index everything from the DB in keyset batches. */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            long docs = 0;
+            long afterId = 0L;
+            List<Hackathon> hackathons;
+            do {
+                hackathons = hackathonRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, batchSize));
+                for (Hackathon h : hackathons) {
+                    writer.addDocument(hackathonDoc(h.getId(), h.getName(), h.getDescription(), h.getLocation(),
+                            h.getStatus().name()));
+                    afterId = h.getId();
+                }
+                docs += hackathons.size();
+            } while (hackathons.size() == batchSize);
+
+            afterId = 0L;
+            List<Project> projects;
+            do {
+                projects = projectRepository.findIndexBatchAfter(afterId, PageRequest.of(0, batchSize));
+                for (Project p : projects) {
+                    writer.addDocument(projectDoc(p.getId(), p.getTitle(), p.getDescription(), p.getTechStack(),
+                            p.getStatus().name(), p.getHackathon().getId(), p.getHackathon().getName()));
+                    afterId = p.getId();
+                }
+                docs += projects.size();
+            } while (projects.size() == batchSize);
+
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            logger.info("Search index rebuilt: {} documents in {} ms", docs, System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Durability for an on-disk index; incremental updates are otherwise only in the NRT segment. */
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}",
+            initialDelayString = "${search.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            logger.warn("Search index commit failed: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Documents
+    // -------------------------------------------------------------------------
+
+    private static Document hackathonDoc(Long id, String name, String description, String location, String status) {
+        Document doc = baseDoc(TYPE_HACKATHON, id, name, description, status);
+        doc.add(new TextField(LOCATION, nullToEmpty(location), Field.Store.YES));
+        return doc;
+    }
+
+    private static Document projectDoc(Long id, String title, String description, String techStack, String status,
+            Long hackathonId, String hackathonName) {
+        Document doc = baseDoc(TYPE_PROJECT, id, title, description, status);
+        doc.add(new TextField(TECH_STACK, nullToEmpty(techStack), Field.Store.YES));
+        doc.add(new StringField(PARENT, hackathonId.toString(), Field.Store.YES));
+        doc.add(new StringField(PARENT_NAME, nullToEmpty(hackathonName), Field.Store.YES));
+        return doc;
+    }
+
+    private static Document baseDoc(String type, Long id, String name, String description, String status) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        doc.add(new StringField(TYPE, type, Field.Store.YES));
+        doc.add(new StringField(ID, id.toString(), Field.Store.YES));
+        doc.add(new StringField(STATUS, status, Field.Store.YES));
+        doc.add(new TextField(NAME, nullToEmpty(name), Field.Store.YES));
+        doc.add(new TextField(DESCRIPTION, nullToEmpty(description), Field.Store.YES));
+        return doc;
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
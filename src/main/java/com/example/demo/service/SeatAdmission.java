@@ -0,0 +1,79 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.RegistrationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-hackathon seat admission for registerParticipant, without a
+ * COUNT(*) per request and without overbooking under concurrency.
+ *
+ * The cap is enforced in the DB: each admitted registration takes a seat
+ * with a conditional UPDATE of hackathons.seats_taken
+ * (HackathonRepository.takeSeat), which holds the hackathon row until the
+ * registering transaction ends and rolls back with it. That holds across
+ * app instances.
+ *
+ * In front of it, each node keeps an in-memory count, seeded once from
+ * countActiveByHackathonId and moved by compare-and-set, so a full
+ * hackathon is rejected without touching the DB. It only sees this
+ * node's registrations, so it may lag the DB; once the DB reports the
+ * hackathon full, the count is set to capacity.
+ */
+@Component
+public class SeatAdmission {
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    private final Map<Long, AtomicInteger> taken = new ConcurrentHashMap<>();
+
+    /**
+     * Try to take one seat. Returns false when the hackathon is full.
+     * Must be called inside the registering transaction.
+     */
+    public boolean tryReserve(Long hackathonId, int capacity) {
+        AtomicInteger seats = seatsFor(hackathonId);
+        while (true) {
+            int current = seats.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (seats.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        if (hackathonRepository.takeSeat(hackathonId) == 0) {
+            // Filled through other nodes
+            seats.set(capacity);
+            return false;
+        }
+        AfterCommit.onRollback(seats::decrementAndGet);
+        return true;
+    }
+
+    /** Forget a hackathon's counter (deleted hackathon). */
+    public void evict(Long hackathonId) {
+        taken.remove(hackathonId);
+    }
+
+    private AtomicInteger seatsFor(Long hackathonId) {
+        AtomicInteger seats = taken.get(hackathonId);
+        if (seats != null) {
+            return seats;
+        }
+        // Seed outside computeIfAbsent so the COUNT never runs under a map lock;
+        // if two threads race here, putIfAbsent keeps the first seed.
+        AtomicInteger seeded = new AtomicInteger((int) registrationRepository.countActiveByHackathonId(hackathonId));
+        AtomicInteger existing = taken.putIfAbsent(hackathonId, seeded);
+        return existing != null ? existing : seeded;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.StatsResponse;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.RegistrationRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ResourceVersions.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory platform counters behind GET /api/stats.
+ *
+ * The write paths (UserService, HackathonService, ProjectService) apply
+ * deltas after their transaction commits, so serving StatsResponse costs
+ * no SQL. A scheduled reconciliation re-reads the real counts to correct
+ * drift from rollbacks racing a reconcile, cascaded deletes, or writes made
+ * by other nodes / outside the app.
+ *
+ * (P23) A reconcile that corrects a counter bumps the matching
+ * ResourceVersions, so the ETag of GET /api/stats changes with it.
+ */
+@Service
+public class StatsCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatsCounterService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    private final LongAdder users = new LongAdder();
+    private final LongAdder hackathons = new LongAdder();
+    private final LongAdder projects = new LongAdder();
+    private final LongAdder registrations = new LongAdder();
+    private final Map<HackathonStatus, LongAdder> hackathonsByStatus = new EnumMap<>(HackathonStatus.class);
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    private volatile boolean ready = false;
+
+    public StatsCounterService() {
+        for (HackathonStatus status : HackathonStatus.values()) {
+            hackathonsByStatus.put(status, new LongAdder());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Deltas (call from inside the write transaction; applied after commit)
+    // -------------------------------------------------------------------------
+
+    public void userRegistered() {
+        AfterCommit.run(users::increment);
+    }
+
+    public void usersImported(long count) {
+        AfterCommit.run(() -> users.add(count));
+    }
+
+    public void hackathonCreated(HackathonStatus status) {
+        AfterCommit.run(() -> {
+            hackathons.increment();
+            hackathonsByStatus.get(status).increment();
+        });
+    }
+
+    /**
+     * A deleted hackathon cascades to its registrations and projects, so the
+     * caller passes how many of each were removed with it.
+     */
+    public void hackathonDeleted(HackathonStatus status, long registrationCount, long projectCount) {
+        AfterCommit.run(() -> {
+            hackathons.decrement();
+            hackathonsByStatus.get(status).decrement();
+            registrations.add(-registrationCount);
+            projects.add(-projectCount);
+        });
+    }
+
+    public void hackathonStatusChanged(HackathonStatus from, HackathonStatus to) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            hackathonsByStatus.get(from).decrement();
+            hackathonsByStatus.get(to).increment();
+        });
+    }
+
+    public void participantRegistered() {
+        AfterCommit.run(registrations::increment);
+    }
+
+    public void projectSubmitted() {
+        AfterCommit.run(projects::increment);
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    public StatsResponse snapshot() {
+        if (!ready) {
+            reconcile();
+        }
+        return StatsResponse.builder()
+                .totalUsers(users.sum())
+                .totalHackathons(hackathons.sum())
+                .activeHackathons(hackathonsByStatus.get(HackathonStatus.ACTIVE).sum())
+                .upcomingHackathons(hackathonsByStatus.get(HackathonStatus.UPCOMING).sum())
+                .completedHackathons(hackathonsByStatus.get(HackathonStatus.COMPLETED).sum())
+                .totalProjects(projects.sum())
+                .totalRegistrations(registrations.sum())
+                .build();
+    }
+
+    // -------------------------------------------------------------------------
+    // Reconciliation
+    // -------------------------------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        reconcile();
+    }
+
+    /**
+     * Overwrite every counter with the DB's value. A delta landing between
+     * the COUNT and the reset can be lost; the next run corrects it.
+     *
+     * Serialized with a ReentrantLock rather than synchronized: the body does
+     * JDBC I/O, and a monitor held across blocking I/O pins the carrier
+     * thread when running on virtual threads.
+     */
+    @Scheduled(fixedDelayString = "${stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${stats.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            doReconcile();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void doReconcile() {
+        long dbUsers = userRepository.count();
+        long dbHackathons = hackathonRepository.count();
+        long dbProjects = projectRepository.countAllProjects();
+        long dbRegistrations = registrationRepository.countTotalRegistrations();
+
+        Set<Resource> drifted = EnumSet.noneOf(Resource.class);
+        long drift = set(users, dbUsers, Resource.USERS, drifted)
+                + set(hackathons, dbHackathons, Resource.HACKATHONS, drifted)
+                + set(projects, dbProjects, Resource.PROJECTS, drifted)
+                + set(registrations, dbRegistrations, Resource.REGISTRATIONS, drifted);
+        for (HackathonStatus status : HackathonStatus.values()) {
+            set(hackathonsByStatus.get(status), hackathonRepository.countByStatus(status),
+                    Resource.HACKATHONS, drifted);
+        }
+
+        if (ready && !drifted.isEmpty()) {
+            resourceVersions.changed(drifted.toArray(Resource[]::new));
+            if (drift > 0) {
+                logger.info("Stats counters reconciled, corrected drift of {}", drift);
+            }
+        }
+        ready = true;
+    }
+
+    /** Overwrites the counter; returns how far off it was, recording resource if it moved. */
+    private static long set(LongAdder adder, long value, Resource resource, Set<Resource> drifted) {
+        long drift = Math.abs(adder.sum() - value);
+        if (drift > 0) {
+            drifted.add(resource);
+        }
+        set(adder, value);
+        return drift;
+    }
+
+    private static void set(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+}
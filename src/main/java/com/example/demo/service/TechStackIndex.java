@@ -0,0 +1,305 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.TechStackFacet;
+import com.example.demo.dto.TechStackFacets;
+import com.example.demo.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory tech-stack facet index — answers "how many React projects in
+ * hackathon X" and "which projects use React and Java" without parsing
+ * Project.techStack row by row.
+ *
+ * (P16) techStack is free text ("React, Spring Boot; PostgreSQL"). It is
+ * split into normalised tags (see tags()) once, when the project is
+ * indexed. Each hackathon keeps a dense ordinal per project and one BitSet
+ * per tag, so a filter is a bitwise AND of the selected tags and a facet
+ * count is the cardinality of (selection AND tag).
+ *
+ * Ordinals are handed out in id order at warm-up and in commit order after
+ * that, so iterating set bits lists projects oldest first.
+ *
+ * Consistency follows LeaderboardEngine: warmed from the DB at startup
+ * (ProjectService.warmLeaderboard()), updated after commit, per-node, with
+ * other nodes' writes applied by RemoteWriteListener.
+ * Each hackathon has its own read/write lock, so writers in one hackathon
+ * never block readers of another.
+ */
+@Component
+public class TechStackIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TechStackIndex.class);
+
+    /** Longest tag kept; anything longer is almost certainly prose, not a technology. */
+    public static final int MAX_TAG_LENGTH = 50;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\r\\n]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<Long, Board> byHackathon = new ConcurrentHashMap<>();
+    private final Map<Long, Long> hackathonOf = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // -------------------------------------------------------------------------
+    // Writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Initial load. Projects already indexed (because a write committed while
+     * the warm-up query was running) are left untouched — they are newer.
+     */
+    public void warm(Collection<ProjectResponse> projects) {
+        List<ProjectResponse> sorted = new ArrayList<>(projects);
+        sorted.sort(Comparator.comparing(ProjectResponse::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (ProjectResponse p : sorted) {
+            if (p.getId() != null && p.getHackathonId() != null && !hackathonOf.containsKey(p.getId())) {
+                upsert(p);
+            }
+        }
+        ready = true;
+        logger.info("Tech-stack index warmed with {} projects across {} hackathons",
+                hackathonOf.size(), byHackathon.size());
+    }
+
+    public void upsert(ProjectResponse project) {
+        if (project.getId() == null || project.getHackathonId() == null) {
+            return;
+        }
+        hackathonOf.put(project.getId(), project.getHackathonId());
+        byHackathon.computeIfAbsent(project.getHackathonId(), id -> new Board()).upsert(project);
+    }
+
+    /** Drops every project of a deleted hackathon. */
+    public void removeHackathon(Long hackathonId) {
+        Board board = byHackathon.remove(hackathonId);
+        if (board != null) {
+            board.projectIds().forEach(hackathonOf::remove);
+        }
+    }
+
+    /** Keeps denormalised hackathon names in the snapshots current. */
+    public void renameHackathon(Long hackathonId, String name) {
+        Board board = byHackathon.get(hackathonId);
+        if (board != null) {
+            board.rename(name);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /** False until the startup warm-up has completed. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Facet counts and the matching projects for one hackathon.
+     *
+     * @param tags  selected tags (normalised here); all must match. Empty selects every project.
+     * @param after cursor from the previous page, or null
+     * @param limit page size, already clamped
+     */
+    public TechStackFacets facets(Long hackathonId, Collection<String> tags, String after, int limit) {
+        Board board = byHackathon.get(hackathonId);
+        return (board != null ? board : new Board()).query(hackathonId, normalise(tags), after, limit);
+    }
+
+    /**
+     * Same answer computed from an ad-hoc list — used while the index is
+     * still warming up.
+     */
+    public static TechStackFacets facetsOf(Long hackathonId, Collection<ProjectResponse> projects,
+            Collection<String> tags, String after, int limit) {
+        Board board = new Board();
+        projects.stream()
+                .sorted(Comparator.comparing(ProjectResponse::getId))
+                .forEach(board::upsert);
+        return board.query(hackathonId, normalise(tags), after, limit);
+    }
+
+    /**
+     * Split a free-form techStack into distinct tags: separated by comma,
+     * semicolon, pipe or newline; trimmed, lower-cased, inner whitespace
+     * collapsed. "React, Spring  Boot;react" → [react, spring boot].
+     */
+    public static Set<String> tags(String techStack) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (techStack == null || techStack.isBlank()) {
+            return tags;
+        }
+        for (String raw : SEPARATORS.split(techStack)) {
+            String tag = normaliseTag(raw);
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private static String normaliseTag(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String tag = WHITESPACE.matcher(raw.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return tag.isEmpty() || tag.length() > MAX_TAG_LENGTH ? null : tag;
+    }
+
+    private static List<String> normalise(Collection<String> tags) {
+        Set<String> result = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String raw : tags) {
+                String tag = normaliseTag(raw);
+                if (tag != null) {
+                    result.add(tag);
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-hackathon bitmaps
+    // -------------------------------------------------------------------------
+
+    private static final class Board {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final List<ProjectResponse> views = new ArrayList<>();
+        final Map<Long, Integer> ordinals = new HashMap<>();
+        final Map<Integer, Set<String>> tagsOf = new HashMap<>();
+        final Map<String, BitSet> bitsByTag = new HashMap<>();
+
+        void upsert(ProjectResponse project) {
+            Set<String> tags = tags(project.getTechStack());
+            lock.writeLock().lock();
+            try {
+                Integer ordinal = ordinals.get(project.getId());
+                if (ordinal == null) {
+                    ordinal = views.size();
+                    ordinals.put(project.getId(), ordinal);
+                    views.add(project);
+                } else {
+                    views.set(ordinal, project);
+                    for (String old : tagsOf.getOrDefault(ordinal, Set.of())) {
+                        BitSet bits = bitsByTag.get(old);
+                        bits.clear(ordinal);
+                        if (bits.isEmpty()) {
+                            bitsByTag.remove(old);
+                        }
+                    }
+                }
+                tagsOf.put(ordinal, tags);
+                for (String tag : tags) {
+                    bitsByTag.computeIfAbsent(tag, t -> new BitSet()).set(ordinal);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void rename(String name) {
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < views.size(); i++) {
+                    ProjectResponse view = views.get(i);
+                    if (!name.equals(view.getHackathonName())) {
+                        views.set(i, view.toBuilder().hackathonName(name).build());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> projectIds() {
+            lock.readLock().lock();
+            try {
+                return new ArrayList<>(ordinals.keySet());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        TechStackFacets query(Long hackathonId, List<String> selected, String after, int limit) {
+            long afterId = PageCursor.decodeId(after);
+            lock.readLock().lock();
+            try {
+                BitSet matching = new BitSet(views.size());
+                matching.set(0, views.size());
+                for (String tag : selected) {
+                    BitSet bits = bitsByTag.get(tag);
+                    if (bits == null) {
+                        matching.clear();
+                        break;
+                    }
+                    matching.and(bits);
+                }
+
+                List<TechStackFacet> facets = new ArrayList<>();
+                BitSet scratch = new BitSet(views.size());
+                for (Map.Entry<String, BitSet> e : bitsByTag.entrySet()) {
+                    int count;
+                    if (selected.isEmpty()) {
+                        count = e.getValue().cardinality();
+                    } else {
+                        scratch.clear();
+                        scratch.or(e.getValue());
+                        scratch.and(matching);
+                        count = scratch.cardinality();
+                    }
+                    if (count > 0) {
+                        facets.add(new TechStackFacet(e.getKey(), count));
+                    }
+                }
+                facets.sort(Comparator.comparingInt(TechStackFacet::getCount).reversed()
+                        .thenComparing(TechStackFacet::getTag));
+
+                int from = 0;
+                if (afterId > 0) {
+                    Integer ordinal = ordinals.get(afterId);
+                    if (ordinal == null) {
+                        throw new BadRequestException("Invalid pagination cursor");
+                    }
+                    from = ordinal + 1;
+                }
+                List<ProjectResponse> rows = new ArrayList<>(Math.min(limit + 1, 64));
+                for (int i = matching.nextSetBit(from); i >= 0 && rows.size() <= limit; i = matching.nextSetBit(i + 1)) {
+                    rows.add(views.get(i));
+                }
+                CursorPage<ProjectResponse> page = PageCursor.toPage(rows, limit,
+                        p -> PageCursor.encode(p.getId()), p -> p);
+
+                return TechStackFacets.builder()
+                        .hackathonId(hackathonId)
+                        .selectedTags(selected)
+                        .matchingProjects(matching.cardinality())
+                        .facets(facets)
+                        .projects(page)
+                        .build();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,513 @@
+package com.example.demo.service;
+
+import com.example.demo.config.IdBlockAllocator;
+import com.example.demo.dto.UserImportError;
+import com.example.demo.dto.UserImportReport;
+import com.example.demo.dto.UserImportRow;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.exception.ServiceUnavailableException;
+import com.example.demo.model.Role;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.TunableBCryptPasswordEncoder;
+import com.example.demo.service.ExportService.Format;
+import com.example.demo.service.ResourceVersions.Resource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Admin bulk user import (CSV or NDJSON).
+ *
+ * (P18) register() costs an existsByEmail query, a BCrypt hash on the
+ * request thread and a single-row insert per user. An import instead reads the body in
+ * chunks of admin.user-import.chunk-size rows and, per chunk:
+ * - validates rows with the same rules as registration, plus
+ *   duplicate emails within the file;
+ * - drops emails already registered with one IN query;
+ * - hashes plain-text passwords in parallel on a dedicated pool (one
+ *   thread per core by default), separate from the login hashing pool so
+ *   an import never makes logins fail with 503;
+ * - inserts the chunk with one JDBC batch (MySQL rewrites it into
+ *   multi-row INSERTs with rewriteBatchedStatements=true) in its own
+ *   transaction, with ids from the same IdBlockAllocator as the entities.
+ *
+ * Rejected rows are reported with their row number instead of failing the
+ * import; chunks that committed stay committed. Only one import runs at a
+ * time.
+ *
+ * BCrypt dominates the cost of plain-text passwords. For large imports
+ * either supply passwordHash, or lower admin.user-import.bcrypt-strength:
+ * those hashes are brought up to security.bcrypt.strength on the user's
+ * first login (see TunableBCryptPasswordEncoder).
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./A-Za-z0-9]{53}$");
+
+    private static final int MAX_CSV_FIELD_LENGTH = 10_000;
+
+    private static final String INSERT_SQL = "INSERT INTO users "
+            + "(id, name, email, password, college, role, created_at, is_active, token_version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatsCounterService statsCounterService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${admin.user-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${admin.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${admin.user-import.bcrypt-strength:0}")
+    private int importStrength;
+
+    @Value("${security.bcrypt.strength:12}")
+    private int defaultStrength;
+
+    @Value("${admin.user-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private final ReentrantLock importLock = new ReentrantLock();
+
+    private ThreadPoolExecutor hashExecutor;
+    private TunableBCryptPasswordEncoder importEncoder;
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        // Unbounded queue is safe: one import at a time, at most one chunk of tasks queued
+        hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "user-import-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        ExecutorServiceMetrics.monitor(meterRegistry, hashExecutor, "userImportHashing");
+        importEncoder = new TunableBCryptPasswordEncoder(importStrength > 0 ? importStrength : defaultStrength);
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    // -------------------------------------------------------------------------
+    // Import
+    // -------------------------------------------------------------------------
+
+    public UserImportReport importUsers(InputStream body, Format format) throws IOException {
+        if (!importLock.tryLock()) {
+            throw new ServiceUnavailableException("Another user import is running. Please retry later.");
+        }
+        try {
+            long start = System.nanoTime();
+            UserImportReport report = new UserImportReport();
+            Map<String, Long> firstRowByEmail = new HashMap<>();
+            Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            RowSource source = format == Format.NDJSON ? ndjsonSource(reader) : csvSource(reader);
+
+            List<Candidate> chunk = new ArrayList<>(chunkSize);
+            for (Candidate c = source.next(); c != null; c = source.next()) {
+                report.setTotalRows(report.getTotalRows() + 1);
+                chunk.add(c);
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, firstRowByEmail, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, firstRowByEmail, report);
+            }
+
+            report.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            logger.info("User import: {} rows, {} imported, {} rejected in {} ms",
+                    report.getTotalRows(), report.getImported(), report.getFailed(), report.getDurationMillis());
+            return report;
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private void processChunk(List<Candidate> chunk, Map<String, Long> firstRowByEmail, UserImportReport report) {
+        int reported = report.getErrors().size();
+        importChunk(chunk, firstRowByEmail, report);
+        // Rows are rejected stage by stage; keep the report in file order
+        report.getErrors().subList(reported, report.getErrors().size())
+                .sort(Comparator.comparingLong(UserImportError::getRow));
+    }
+
+    private void importChunk(List<Candidate> chunk, Map<String, Long> firstRowByEmail, UserImportReport report) {
+        // 1. Row rules and duplicates within the file
+        List<Candidate> valid = new ArrayList<>(chunk.size());
+        for (Candidate c : chunk) {
+            String error = c.error() != null ? c.error() : validate(c);
+            if (error == null) {
+                Long first = firstRowByEmail.putIfAbsent(c.email(), c.row());
+                if (first != null) {
+                    error = "Duplicate email in import (first seen at row " + first + ")";
+                }
+            }
+            if (error != null) {
+                reject(report, c, error);
+            } else {
+                valid.add(c);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 2. Already registered — one IN query for the chunk
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                valid.stream().map(Candidate::email).collect(Collectors.toList())));
+        List<Candidate> fresh = new ArrayList<>(valid.size());
+        for (Candidate c : valid) {
+            if (existing.contains(c.email())) {
+                reject(report, c, "Email is already registered");
+            } else {
+                fresh.add(c);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        // 3. Hash in parallel, 4. insert as one batch
+        List<Object[]> rows = hash(fresh);
+        try {
+            insert(rows);
+            report.setImported(report.getImported() + rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // Usually an email registered concurrently since step 2: retry row by row to isolate it
+            for (int i = 0; i < fresh.size(); i++) {
+                try {
+                    insert(List.<Object[]>of(rows.get(i)));
+                    report.setImported(report.getImported() + 1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    reject(report, fresh.get(i), rowFailureMessage(fresh.get(i), rowFailure));
+                }
+            }
+        }
+    }
+
+    /** Why a single-row insert failed: the email taken since step 2, or else the database's own reason. */
+    private String rowFailureMessage(Candidate c, DataIntegrityViolationException failure) {
+        if (!userRepository.findExistingEmails(List.of(c.email())).isEmpty()) {
+            return "Email is already registered";
+        }
+        return "Could not be inserted: " + failure.getMostSpecificCause().getMessage();
+    }
+
+    private String validate(Candidate c) {
+        UserImportRow row = c.data();
+        Set<ConstraintViolation<UserImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        boolean hasPassword = row.getPassword() != null && !row.getPassword().isEmpty();
+        boolean hasHash = row.getPasswordHash() != null && !row.getPasswordHash().isEmpty();
+        if (hasPassword == hasHash) {
+            return "Exactly one of password or passwordHash is required";
+        }
+        if (hasHash && !BCRYPT_HASH.matcher(row.getPasswordHash()).matches()) {
+            return "passwordHash must be a BCrypt hash";
+        }
+        if (c.role() == null) {
+            return "Unknown role: " + row.getRole();
+        }
+        if (c.role() == Role.ADMIN) {
+            return "ADMIN accounts cannot be bulk-imported";
+        }
+        return null;
+    }
+
+    private void reject(UserImportReport report, Candidate c, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new UserImportError(c.row(), c.email(), message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    /** Insert parameters for each candidate, hashing plain-text passwords on the import pool. */
+    private List<Object[]> hash(List<Candidate> candidates) {
+        List<Callable<String>> tasks = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            String hash = c.data().getPasswordHash();
+            String raw = c.data().getPassword();
+            tasks.add(hash != null && !hash.isEmpty() ? () -> hash : () -> importEncoder.encode(raw));
+        }
+        List<Future<String>> hashes;
+        try {
+            hashes = hashExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("User import was interrupted.");
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate c = candidates.get(i);
+            String college = c.data().getCollege() != null && !c.data().getCollege().isBlank()
+                    ? c.data().getCollege().trim() : null;
+            rows.add(new Object[] { idBlockAllocator.next("users"), c.data().getName().trim(), c.email(), await(hashes.get(i)), college,
+                    c.role().name(), now, true, 0L });
+        }
+        return rows;
+    }
+
+    private static String await(Future<String> hash) {
+        try {
+            return hash.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("User import was interrupted.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        chunkTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            statsCounterService.usersImported(rows.size());
+            resourceVersions.changed(Resource.USERS);
+        });
+    }
+
+    // -------------------------------------------------------------------------
+    // Parsing
+    // -------------------------------------------------------------------------
+
+    /** Pulls one row at a time so the body is never held in memory. */
+    private interface RowSource {
+        /** Next row, or null at end of input. */
+        Candidate next() throws IOException;
+    }
+
+    private record Candidate(long row, UserImportRow data, String email, Role role, String error) {
+
+        static Candidate of(long row, UserImportRow data) {
+            String email = data.getEmail() != null ? data.getEmail().toLowerCase(Locale.ROOT).trim() : null;
+            data.setEmail(email);
+            Role role = Role.PARTICIPANT;
+            if (data.getRole() != null && !data.getRole().isBlank()) {
+                try {
+                    role = Role.valueOf(data.getRole().trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    role = null;
+                }
+            }
+            return new Candidate(row, data, email, role, null);
+        }
+
+        static Candidate invalid(long row, String message) {
+            return new Candidate(row, null, null, null, message);
+        }
+    }
+
+    private RowSource ndjsonSource(Reader reader) {
+        BufferedReader lines = (BufferedReader) reader;
+        ObjectReader rowReader = objectMapper.readerFor(UserImportRow.class);
+        long[] lineNo = { 0 };
+        return () -> {
+            String line;
+            do {
+                line = lines.readLine();
+                lineNo[0]++;
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                return Candidate.of(lineNo[0], rowReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return Candidate.invalid(lineNo[0], "Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    /**
+     * CSV with a header row naming the columns (any order, case-insensitive):
+     * name, email, password, password_hash, college, role. Unknown columns
+     * are ignored.
+     */
+    private RowSource csvSource(Reader reader) throws IOException {
+        PushbackReader in = new PushbackReader(reader, 1);
+        List<String> header = readCsvRecord(in);
+        if (header == null) {
+            throw new BadRequestException("CSV import is empty; a header row is required");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT).replace("passwordhash", "password_hash"), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("email")) {
+            throw new BadRequestException("CSV header must include name and email columns");
+        }
+        long[] rowNo = { 0 };
+        return () -> {
+            List<String> record;
+            do {
+                record = readCsvRecord(in);
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            if (record == null) {
+                return null;
+            }
+            rowNo[0]++;
+            List<String> r = record;
+            return Candidate.of(rowNo[0], UserImportRow.builder()
+                    .name(cell(r, columns.get("name")))
+                    .email(cell(r, columns.get("email")))
+                    .password(cell(r, columns.get("password")))
+                    .passwordHash(cell(r, columns.get("password_hash")))
+                    .college(cell(r, columns.get("college")))
+                    .role(cell(r, columns.get("role")))
+                    .build());
+        };
+    }
+
+    private static String cell(List<String> record, Integer index) {
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Next RFC 4180 record: quoted fields may contain commas, doubled quotes
+     * and line breaks. Returns null at end of input.
+     */
+    private static List<String> readCsvRecord(PushbackReader in) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            any = true;
+            if (field.length() > MAX_CSV_FIELD_LENGTH) {
+                throw new BadRequestException("CSV field longer than " + MAX_CSV_FIELD_LENGTH
+                        + " characters (unterminated quote?)");
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                int next = in.read();
+                if (next == '"') {
+                    field.append('"');
+                    continue;
+                }
+                quoted = false;
+                if (next == -1) {
+                    break;
+                }
+                c = next;
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = in.read();
+                    if (next != '\n' && next != -1) {
+                        in.unread(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
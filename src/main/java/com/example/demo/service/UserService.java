@@ -1,26 +1,33 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.AuthResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.RegisterRequest;
 import com.example.demo.dto.UserResponse;
 import com.example.demo.exception.BadRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.DomainEventType;
 import com.example.demo.model.Role;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AccountUserDetails;
 import com.example.demo.security.JwtService;
+import com.example.demo.security.TokenVersionCache;
+import com.example.demo.service.ResourceVersions.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +39,9 @@ import java.util.stream.Collectors;
  * write tx.
  * - (H2) getAllUsers() now returns List<UserResponse> (not raw entities).
  * - (L3) Removed @Deprecated addUser() dead code.
+ * - (P8) Issued tokens carry role + token version; role and active changes
+ * bump the version so stale tokens fall back to a DB check.
+ * - (P25) Self-registration publishes USER_REGISTERED to the outbox.
  */
 @Service
 @Transactional
@@ -51,6 +61,18 @@ public class UserService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private StatsCounterService statsCounterService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    @Autowired
+    private DomainEvents domainEvents;
+
     // -------------------------------------------------------------------------
     // Authentication
     // -------------------------------------------------------------------------
@@ -78,9 +100,13 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        domainEvents.publish(DomainEventType.USER_REGISTERED, savedUser.getId(), Map.of("role", savedUser.getRole()));
+        statsCounterService.userRegistered();
+        resourceVersions.changed(Resource.USERS);
         logger.info("New user registered: {} [{}]", savedUser.getEmail(), savedUser.getRole());
 
-        String token = jwtService.generateToken(savedUser.getEmail());
+        String token = jwtService.generateToken(savedUser.getEmail(), savedUser.getRole(),
+                savedUser.getTokenVersion());
         return AuthResponse.of(token, savedUser.getId(), savedUser.getName(),
                 savedUser.getEmail(), savedUser.getRole());
     }
@@ -88,11 +114,14 @@ public class UserService {
     /**
      * Authenticate a user and return JWT token.
      * FIX (M8): Uses readOnly=true — login only reads, no writes needed.
+     * (P9) The response is built from the authenticated principal, so a
+     * login costs at most one user query (none on a user-cache hit).
      */
     @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getEmail().toLowerCase().trim(),
                             request.getPassword()));
@@ -100,12 +129,10 @@ public class UserService {
             throw new BadRequestException("Invalid email or password");
         }
 
-        User user = userRepository.findByEmail(request.getEmail().toLowerCase().trim())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        String token = jwtService.generateToken(user.getEmail());
-        logger.info("User logged in: {}", user.getEmail());
-        return AuthResponse.of(token, user.getId(), user.getName(), user.getEmail(), user.getRole());
+        AccountUserDetails account = (AccountUserDetails) authentication.getPrincipal();
+        String token = jwtService.generateToken(account.getUsername(), account.getRole(), account.getTokenVersion());
+        logger.info("User logged in: {}", account.getUsername());
+        return AuthResponse.of(token, account.getId(), account.getName(), account.getUsername(), account.getRole());
     }
 
     // -------------------------------------------------------------------------
@@ -135,6 +162,17 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset-paginated user listing. Sort contract: id ASC.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUserPage(String after, Integer limit) {
+        int pageSize = PageCursor.clampLimit(limit);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(
+                PageCursor.decodeId(after), PageCursor.probe(pageSize));
+        return PageCursor.toPage(rows, pageSize, u -> PageCursor.encode(u.getId()), this::toUserResponse);
+    }
+
     @Transactional(readOnly = true)
     public long countActiveUsers() {
         return userRepository.countActiveUsers();
@@ -148,7 +186,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         user.setRole(newRole);
+        user.bumpTokenVersion();
         User saved = userRepository.save(user);
+        invalidateTokens(saved);
+        resourceVersions.changed(Resource.USERS);
         logger.info("User {} role changed to {}", saved.getEmail(), newRole);
         return toUserResponse(saved);
     }
@@ -160,11 +201,26 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         user.setActive(active);
+        user.bumpTokenVersion();
         User saved = userRepository.save(user);
+        invalidateTokens(saved);
+        resourceVersions.changed(Resource.USERS);
         logger.info("User {} active status set to {}", saved.getEmail(), active);
         return toUserResponse(saved);
     }
 
+    /**
+     * Tokens issued before this change carry an older version; once the
+     * change commits, the auth filter stops trusting their role claim and
+     * re-reads the account. Recording the new version also evicts the
+     * account from the user-details cache.
+     */
+    private void invalidateTokens(User user) {
+        String email = user.getEmail();
+        long version = user.getTokenVersion();
+        AfterCommit.run(() -> tokenVersionCache.record(email, version));
+    }
+
     // -------------------------------------------------------------------------
     // Mapping
     // -------------------------------------------------------------------------
@@ -0,0 +1,57 @@
+package com.example.demo;
+
+import com.example.demo.dto.AdminDashboardResponse;
+import com.example.demo.dto.RegisterRequest;
+import com.example.demo.model.Role;
+import com.example.demo.service.AdminSnapshotService;
+import com.example.demo.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the precomputed admin dashboard.
+ * Not @Transactional — the snapshot only notices committed writes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminSnapshotServiceTest {
+
+    @Autowired
+    private AdminSnapshotService adminSnapshotService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("get(): served without SQL; a committed write is picked up by the next refresh check  (FIX P13)")
+    void snapshot_servedWithoutSql_andRefreshedAfterWrite() {
+        adminSnapshotService.refresh();
+        AdminDashboardResponse before = adminSnapshotService.get();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        assertThat(adminSnapshotService.get()).isSameAs(before);
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        userService.register(new RegisterRequest("Snap User", "snap-user@test.com", "password123", null));
+        adminSnapshotService.refreshIfStale();
+
+        AdminDashboardResponse after = adminSnapshotService.get();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getTotalUsers()).isEqualTo(before.getTotalUsers() + 1);
+        assertThat(after.getUsersByRole().get(Role.PARTICIPANT))
+                .isEqualTo(before.getUsersByRole().get(Role.PARTICIPANT) + 1);
+        assertThat(after.getGeneratedAt()).isAfterOrEqualTo(before.getGeneratedAt());
+    }
+}
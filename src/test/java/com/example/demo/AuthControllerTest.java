@@ -2,17 +2,27 @@ package com.example.demo;
 
 import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.RegisterRequest;
+import com.example.demo.model.Role;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.CustomUserDetailsService;
+import com.example.demo.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +43,28 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private String registerAndGetToken(String name, String email) throws Exception {
+        RegisterRequest request = new RegisterRequest(name, email, "password123", null);
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
     // ── Registration ─────────────────────────────────────────────────────────
 
     @Test
@@ -166,4 +198,97 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(login)))
                 .andExpect(status().isBadRequest());
     }
+
+    // ── Stateless JWT principal (P8) ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("Authenticated request with a current token → no SQL in the auth filter")
+    void authenticatedRequest_currentToken_runsNoUserQuery() throws Exception {
+        String token = registerAndGetToken("Frank", "frank@test.com");
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mockMvc.perform(get("/api/hello").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deactivated user → previously issued token is rejected")
+    void deactivatedUser_oldTokenRejected() throws Exception {
+        String token = registerAndGetToken("Grace", "grace@test.com");
+        Long id = userRepository.findByEmail("grace@test.com").orElseThrow().getId();
+
+        userService.setUserActive(id, false);
+
+        mockMvc.perform(get("/api/hello").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Role change → old token's role claim is ignored in favour of the DB")
+    void roleChange_oldTokenUsesCurrentRole() throws Exception {
+        String token = registerAndGetToken("Heidi", "heidi@test.com");
+        Long id = userRepository.findByEmail("heidi@test.com").orElseThrow().getId();
+
+        // Token says PARTICIPANT; promote to ADMIN — the admin-only endpoint must now allow it
+        userService.changeUserRole(id, Role.ADMIN);
+
+        mockMvc.perform(get("/api/users/" + id).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("ADMIN"));
+    }
+
+    @Test
+    @DisplayName("/actuator/metrics → ADMIN only; /actuator/health stays public")
+    void actuatorMetrics_adminOnly() throws Exception {
+        String token = registerAndGetToken("Mallory", "mallory@test.com");
+        Long id = userRepository.findByEmail("mallory@test.com").orElseThrow().getId();
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        userService.changeUserRole(id, Role.ADMIN);
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login → at most one user query, none on a cache hit  (P9)")
+    void login_usesAtMostOneUserQuery() throws Exception {
+        registerAndGetToken("Ivan", "ivan@test.com");
+        String body = objectMapper.writeValueAsString(new LoginRequest("ivan@test.com", "password123"));
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        stats.clear();
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").isNumber())
+                .andExpect(jsonPath("$.name").value("Ivan"));
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+
+        stats.clear();
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login → hash at another BCrypt cost is rewritten at the configured cost  (P10)")
+    void login_rehashesPasswordAtConfiguredCost() throws Exception {
+        registerAndGetToken("Judy", "judy@test.com");
+        userRepository.updatePassword("judy@test.com", new BCryptPasswordEncoder(4).encode("password123"));
+        userDetailsService.evict("judy@test.com");
+
+        String body = objectMapper.writeValueAsString(new LoginRequest("judy@test.com", "password123"));
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+
+        String stored = userRepository.findByEmail("judy@test.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$12$");
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+    }
 }
@@ -0,0 +1,129 @@
+package com.example.demo;
+
+import com.example.demo.dto.HackathonRequest;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.HackathonService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the conditional GETs polled by display screens.
+ * Not @Transactional — versions are bumped after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    private static final List<String> POLLED = List.of(
+            "/api/stats", "/api/hackathons", "/api/projects/leaderboard");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long hackathonId;
+
+    @AfterEach
+    void cleanUp() {
+        if (hackathonId != null) {
+            hackathonService.deleteHackathon(hackathonId, "conditional-org@test.com");
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'conditional-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("Polled endpoints: 304 with no SQL while unchanged, new ETag after a write  (FIX P23)")
+    void polledEndpoints_revalidateWithoutQueries() throws Exception {
+        Map<String, String> eTags = new LinkedHashMap<>();
+        for (String url : POLLED) {
+            MvcResult result = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andReturn();
+            String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(eTag).startsWith("\"").endsWith("\"");
+            eTags.put(url, eTag);
+        }
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        for (String url : POLLED) {
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTags.get(url)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTags.get(url)))
+                    .andExpect(content().string(""));
+        }
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        User organizer = userRepository.save(User.builder()
+                .name("Conditional Organizer")
+                .email("conditional-org@test.com")
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(Role.ORGANIZER)
+                .active(true)
+                .build());
+        hackathonId = hackathonService.createHackathon(HackathonRequest.builder()
+                .name("Conditional Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(3))
+                .endDate(LocalDate.now().plusDays(4))
+                .maxParticipants(10)
+                .prizeAmount(0.0)
+                .build(), organizer.getEmail()).getId();
+
+        for (String url : POLLED) {
+            String newETag = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTags.get(url)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(newETag).as(url).isNotEqualTo(eTags.get(url));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/stats: If-Modified-Since at Last-Modified gets 304")
+    void stats_revalidatesWithLastModified() throws Exception {
+        String lastModified = mockMvc.perform(get("/api/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/api/stats").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
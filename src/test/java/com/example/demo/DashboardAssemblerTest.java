@@ -0,0 +1,117 @@
+package com.example.demo;
+
+import com.example.demo.dto.HackathonRequest;
+import com.example.demo.dto.HackathonResponse;
+import com.example.demo.dto.RegistrationResponse;
+import com.example.demo.dto.UserResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.DashboardAssembler;
+import com.example.demo.service.HackathonService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the parallel participant dashboard.
+ * Not @Transactional — sections run on other threads and only see committed rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardAssemblerTest {
+
+    @Autowired
+    private DashboardAssembler dashboardAssembler;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        // Committed rows would otherwise show up in other classes' listings
+        created.forEach(id -> hackathonService.deleteHackathon(id, "dash-org@test.com"));
+        created.clear();
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'dash-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("participantDashboard(): open, not-yet-joined hackathons only; registrations as DTOs  (FIX P12)")
+    @SuppressWarnings("unchecked")
+    void participantDashboard_sectionsAreScopedToTheParticipant() {
+        User organizer = saveUser("Dash Organizer", "dash-org@test.com", Role.ORGANIZER);
+        User participant = saveUser("Dash Participant", "dash-part@test.com", Role.PARTICIPANT);
+
+        HackathonResponse joined = create("Joined Hack", organizer);
+        HackathonResponse open = create("Open Hack", organizer);
+        HackathonResponse completed = create("Finished Hack", organizer);
+        hackathonService.updateStatus(completed.getId(), HackathonStatus.COMPLETED, organizer.getEmail());
+        hackathonService.registerParticipant(joined.getId(), participant.getEmail());
+
+        Map<String, Object> dashboard = dashboardAssembler.participantDashboard(participant.getEmail());
+
+        assertThat(dashboard).doesNotContainKey("unavailableSections");
+        assertThat(((UserResponse) dashboard.get("user")).getEmail()).isEqualTo(participant.getEmail());
+        assertThat((List<?>) dashboard.get("myProjects")).isEmpty();
+
+        List<RegistrationResponse> registrations = (List<RegistrationResponse>) dashboard.get("registrations");
+        assertThat(registrations).extracting(RegistrationResponse::getHackathonName).containsExactly("Joined Hack");
+
+        List<HackathonResponse> available = (List<HackathonResponse>) dashboard.get("availableHackathons");
+        assertThat(available).extracting(HackathonResponse::getId)
+                .contains(open.getId())
+                .doesNotContain(joined.getId(), completed.getId());
+    }
+
+    @Test
+    @DisplayName("participantDashboard(): unknown user → ResourceNotFoundException from the required section")
+    void participantDashboard_unknownUser_throws() {
+        assertThatThrownBy(() -> dashboardAssembler.participantDashboard("nobody-dash@test.com"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private User saveUser(String name, String email, Role role) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+
+    // Started yesterday so it sorts ahead of other tests' future hackathons
+    private HackathonResponse create(String name, User organizer) {
+        HackathonResponse response = hackathonService.createHackathon(HackathonRequest.builder()
+                .name(name)
+                .location("Online")
+                .startDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(1))
+                .maxParticipants(10)
+                .prizeAmount(0.0)
+                .build(), organizer.getEmail());
+        created.add(response.getId());
+        return response;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.demo;
+
+import com.example.demo.dto.HackathonRequest;
+import com.example.demo.dto.HackathonResponse;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ExportService;
+import com.example.demo.service.ExportService.Format;
+import com.example.demo.service.HackathonService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the streaming exports.
+ * Not @Transactional — the export opens its own read-only transaction and
+ * must see the JDBC-seeded rows; seeded rows are removed after each test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportServiceTest {
+
+    private static final int LARGE_EXPORT_ROWS = 50_000;
+
+    // Rows seeded over JDBC need explicit ids (see @PooledId); keep them clear of generated ones
+    private static final long SEED_ID_BASE = 1_000_000_000L;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long hackathonId;
+
+    @AfterEach
+    void cleanUp() {
+        if (hackathonId != null) {
+            jdbcTemplate.update("DELETE FROM projects WHERE hackathon_id = ?", hackathonId);
+            jdbcTemplate.update("DELETE FROM registrations WHERE hackathon_id = ?", hackathonId);
+            jdbcTemplate.update("DELETE FROM hackathons WHERE id = ?", hackathonId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'export-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("writeRegistrations(): CSV rows are quoted and formula-escaped  (FIX P17)")
+    void writeRegistrations_csvEscaping() throws Exception {
+        User organizer = saveUser("export-org-csv@test.com", Role.ORGANIZER);
+        hackathonId = create("Export CSV Hack", organizer).getId();
+        seedRegistrations(2, i -> i == 0 ? "Team \"A\", the best" : "=HYPERLINK(\"x\")");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.writeRegistrations(hackathonId, Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("registration_id,user_id,name,email,status,team_name,registered_at");
+        assertThat(lines[1]).contains(",export-p0@test.com,REGISTERED,\"Team \"\"A\"\", the best\",");
+        assertThat(lines[2]).contains(",\"'=HYPERLINK(\"\"x\"\")\",");
+    }
+
+    @Test
+    @DisplayName("writeProjects(): NDJSON, one object per line")
+    void writeProjects_ndjson() throws Exception {
+        User organizer = saveUser("export-org-json@test.com", Role.ORGANIZER);
+        hackathonId = create("Export JSON Hack", organizer).getId();
+        seedRegistrations(1, i -> null);
+        Long submitterId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'export-p0@test.com'", Long.class);
+        jdbcTemplate.update("INSERT INTO projects (id, title, tech_stack, score, status, hackathon_id, "
+                + "submitted_by_id, submitted_at) VALUES (?, 'Exported', 'Java', 0, 'SUBMITTED', ?, ?, ?)",
+                SEED_ID_BASE, hackathonId, submitterId, Timestamp.valueOf(LocalDateTime.now()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.writeProjects(hackathonId, Format.NDJSON, out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(1);
+        assertThat(body).endsWith("}\n").contains("\"title\":\"Exported\"", "\"submittedByEmail\":\"export-p0@test.com\"");
+        assertThat(body.split("\n")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("writeRegistrations(): 50k rows stream with bounded heap growth  (FIX P17)")
+    void writeRegistrations_largeExport_heapStaysBounded() throws Exception {
+        User organizer = saveUser("export-org-large@test.com", Role.ORGANIZER);
+        hackathonId = create("Export Large Hack", organizer).getId();
+        seedLargeRegistrations(LARGE_EXPORT_ROWS);
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long rows = exportService.writeRegistrations(hackathonId, Format.CSV, out);
+
+        assertThat(rows).isEqualTo(LARGE_EXPORT_ROWS);
+        // Materialising the rows as a List would keep the whole export (and
+        // more, as DTOs) on the heap; streaming only holds driver/writer buffers.
+        assertThat(out.bytes).isGreaterThan(4L * 1024 * 1024);
+        assertThat(out.peakGrowth())
+                .as("heap growth while writing %d bytes", out.bytes)
+                .isLessThan(out.bytes / 2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private User saveUser(String email, Role role) {
+        return userRepository.save(User.builder()
+                .name("Export User")
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+
+    private HackathonResponse create(String name, User organizer) {
+        return hackathonService.createHackathon(HackathonRequest.builder()
+                .name(name)
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(30))
+                .endDate(LocalDate.now().plusDays(31))
+                .maxParticipants(LARGE_EXPORT_ROWS)
+                .prizeAmount(0.0)
+                .build(), organizer.getEmail());
+    }
+
+    private void seedRegistrations(int count, IntFunction<String> teamName) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new Object[] { SEED_ID_BASE + i, "Participant " + i, "export-p" + i + "@test.com", "x", "PARTICIPANT", now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, password, role, created_at, is_active, "
+                + "token_version) VALUES (?, ?, ?, ?, ?, ?, TRUE, 0)", users);
+
+        List<Object[]> registrations = new ArrayList<>();
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'export-p%@test.com' ORDER BY id", Long.class);
+        for (int i = 0; i < ids.size(); i++) {
+            registrations.add(new Object[] { SEED_ID_BASE + i, ids.get(i), hackathonId, now, "REGISTERED", teamName.apply(i) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO registrations (id, user_id, hackathon_id, registered_at, status, "
+                + "team_name) VALUES (?, ?, ?, ?, ?, ?)", registrations);
+    }
+
+    // Set-based insert (H2 SYSTEM_RANGE): row-by-row batches dominate the test time at this size
+    private void seedLargeRegistrations(int count) {
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, created_at, is_active, "
+                + "token_version) SELECT ? + X, CONCAT('Participant ', X), CONCAT('export-p', X, '@test.com'), 'x', 'PARTICIPANT', "
+                + "CURRENT_TIMESTAMP, TRUE, 0 FROM SYSTEM_RANGE(0, ?)", SEED_ID_BASE, count - 1);
+        jdbcTemplate.update("INSERT INTO registrations (id, user_id, hackathon_id, registered_at, status, team_name) "
+                + "SELECT id, id, ?, CURRENT_TIMESTAMP, 'REGISTERED', CONCAT('Team ', id) FROM users "
+                + "WHERE email LIKE 'export-p%@test.com'", hackathonId);
+    }
+
+    /**
+     * Discards the export but, every 1 MB written, forces a GC and records
+     * live heap, so the peak reflects what the export actually retains.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+        private static final long SAMPLE_EVERY = 1024 * 1024;
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline;
+        private long bytes;
+        private long nextSample = SAMPLE_EVERY;
+        private long peak;
+
+        HeapSamplingOutputStream() {
+            baseline = usedAfterGc();
+        }
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            bytes += len;
+            if (bytes >= nextSample) {
+                nextSample += SAMPLE_EVERY;
+                peak = Math.max(peak, usedAfterGc());
+            }
+        }
+
+        long peakGrowth() {
+            return Math.max(0, peak - baseline);
+        }
+
+        private long usedAfterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
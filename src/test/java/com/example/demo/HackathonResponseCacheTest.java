@@ -0,0 +1,128 @@
+package com.example.demo;
+
+import com.example.demo.model.*;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.HackathonResponseCache;
+import com.example.demo.service.HackathonService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the cached, conditional GET /api/hackathons/{id}.
+ * Not @Transactional — invalidation happens after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HackathonResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private HackathonResponseCache hackathonResponseCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long hackathonId;
+
+    @AfterEach
+    void cleanUp() {
+        if (hackathonId != null) {
+            jdbcTemplate.update("DELETE FROM registrations WHERE hackathon_id = ?", hackathonId);
+            jdbcTemplate.update("DELETE FROM hackathons WHERE id = ?", hackathonId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'detail-cache-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("GET /api/hackathons/{id}: cached, 304 on a matching ETag across reloads, new ETag after a registration  (FIX P22)")
+    void getHackathon_revalidatesWithETag() throws Exception {
+        User organizer = saveUser("detail-cache-org@test.com", Role.ORGANIZER);
+        User participant = saveUser("detail-cache-p@test.com", Role.PARTICIPANT);
+        hackathonId = hackathonRepository.save(Hackathon.builder()
+                .name("Detail Cache Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(5))
+                .endDate(LocalDate.now().plusDays(6))
+                .maxParticipants(10)
+                .status(HackathonStatus.UPCOMING)
+                .organizer(organizer)
+                .build()).getId();
+
+        String eTag = mockMvc.perform(get("/api/hackathons/" + hackathonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registrationCount").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mockMvc.perform(get("/api/hackathons/" + hackathonId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        // Reloaded but unchanged: same ETag, still a 304
+        hackathonResponseCache.invalidate(hackathonId);
+        mockMvc.perform(get("/api/hackathons/" + hackathonId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        hackathonService.registerParticipant(hackathonId, participant.getEmail());
+
+        String newETag = mockMvc.perform(get("/api/hackathons/" + hackathonId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registrationCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "hackathonResponses").tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private User saveUser(String email, Role role) {
+        return userRepository.save(User.builder()
+                .name("Detail Cache User")
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+}
@@ -4,6 +4,10 @@ import com.example.demo.exception.BadRequestException;
 import com.example.demo.model.*;
 import com.example.demo.repository.*;
 import com.example.demo.service.HackathonService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -37,6 +42,15 @@ class HackathonServiceTest {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User organizer;
     private User otherOrganizer;
     private User participant;
@@ -215,6 +229,38 @@ class HackathonServiceTest {
                 .hasMessageContaining("full");
     }
 
+    @Test
+    @DisplayName("registerParticipant: seats taken through another node → full  (FIX P5)")
+    void registerParticipant_fullInDatabase_throws() {
+        Hackathon h = hackathonRepository.save(Hackathon.builder()
+                .name("Shared Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(5))
+                .maxParticipants(2)
+                .status(HackathonStatus.UPCOMING)
+                .organizer(organizer)
+                .build());
+        hackathonService.registerParticipant(h.getId(), participant.getEmail());
+
+        // This node has admitted one of two; another node takes the last seat
+        entityManager.createNativeQuery("UPDATE hackathons SET seats_taken = seats_taken + 1 WHERE id = ?")
+                .setParameter(1, h.getId())
+                .executeUpdate();
+        User part2 = userRepository.save(User.builder()
+                .name("Part Two")
+                .email("part2@test.com")
+                .password("$2a$12$dummyHash444444444444444444444444444444444444444444444")
+                .role(Role.PARTICIPANT)
+                .active(true)
+                .build());
+
+        assertThatThrownBy(() -> hackathonService.registerParticipant(h.getId(), part2.getEmail()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("full");
+        assertThat(registrationRepository.countActiveByHackathonId(h.getId())).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("registerParticipant: CANCELLED hackathon → BadRequestException")
     void registerParticipant_cancelledHackathon_throws() {
@@ -232,4 +278,168 @@ class HackathonServiceTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("CANCELLED");
     }
+
+    // ── Listing query count (FIX P1) ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("getAllHackathons: one SQL statement regardless of row count  (FIX P1)")
+    void getAllHackathons_isSingleQuery() {
+        for (int i = 0; i < 25; i++) {
+            Hackathon h = hackathonRepository.save(Hackathon.builder()
+                    .name("Listing Hack " + i)
+                    .location("Online")
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(3))
+                    .maxParticipants(100)
+                    .status(i % 2 == 0 ? HackathonStatus.UPCOMING : HackathonStatus.ACTIVE)
+                    .organizer(i % 2 == 0 ? organizer : otherOrganizer)
+                    .build());
+            registrationRepository.save(Registration.builder()
+                    .user(participant)
+                    .hackathon(h)
+                    .status(RegistrationStatus.REGISTERED)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        stats.clear();
+        List<com.example.demo.dto.HackathonResponse> all = hackathonService.getAllHackathons();
+        assertThat(all).hasSizeGreaterThanOrEqualTo(25);
+        assertThat(all).allSatisfy(r -> {
+            assertThat(r.getOrganizerName()).isNotNull();
+            assertThat(r.getRegistrationCount()).isEqualTo(1);
+        });
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+
+        stats.clear();
+        hackathonService.getHackathonsByStatus(HackathonStatus.ACTIVE);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+
+        stats.clear();
+        List<com.example.demo.dto.HackathonResponse> mine = hackathonService.getHackathonsByOrganizer(organizer.getId());
+        assertThat(mine).hasSize(13);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // ── Keyset pagination ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getHackathonPage: walks every row exactly once in (startDate, id) order")
+    void getHackathonPage_walksAllRowsInOrder() {
+        for (int i = 0; i < 7; i++) {
+            hackathonRepository.save(Hackathon.builder()
+                    .name("Paged Hack " + i)
+                    .location("Online")
+                    // duplicate start dates exercise the id tie-breaker
+                    .startDate(LocalDate.now().plusDays(1 + i / 2))
+                    .endDate(LocalDate.now().plusDays(10))
+                    .maxParticipants(100)
+                    .status(HackathonStatus.UPCOMING)
+                    .organizer(organizer)
+                    .build());
+        }
+
+        List<Long> seen = new java.util.ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var page = hackathonService.getHackathonPage(HackathonStatus.UPCOMING, cursor, 3);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(3);
+            page.getItems().forEach(h -> seen.add(h.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates().isSorted();
+
+        // Unfiltered: same walk over every status
+        List<Long> all = new java.util.ArrayList<>();
+        cursor = null;
+        do {
+            var page = hackathonService.getHackathonPage(null, cursor, 3);
+            page.getItems().forEach(h -> all.add(h.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(all).doesNotHaveDuplicates().containsAll(seen);
+    }
+
+    @Test
+    @DisplayName("getHackathonPage: malformed cursor → BadRequestException")
+    void getHackathonPage_badCursor_throws() {
+        assertThatThrownBy(() -> hackathonService.getHackathonPage(null, "not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    // ── Organizer dashboard ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getOrganizerDashboard: status breakdowns for 30 hackathons in one statement  (FIX P14)")
+    void getOrganizerDashboard_singleGroupedQuery() {
+        for (int i = 0; i < 30; i++) {
+            Hackathon h = hackathonRepository.save(Hackathon.builder()
+                    .name("Org Dash " + i)
+                    .description("Dashboard hackathon " + i)
+                    .location("Online")
+                    .prizeAmount(1000.0 * i)
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(3))
+                    .maxParticipants(100)
+                    .status(HackathonStatus.ACTIVE)
+                    .organizer(organizer)
+                    .build());
+            registrationRepository.save(Registration.builder()
+                    .user(participant)
+                    .hackathon(h)
+                    .status(i % 3 == 0 ? RegistrationStatus.CANCELLED : RegistrationStatus.CONFIRMED)
+                    .build());
+            if (i < 4) {
+                projectRepository.save(Project.builder()
+                        .title("Scored " + i)
+                        .hackathon(h)
+                        .submittedBy(participant)
+                        .status(ProjectStatus.ACCEPTED)
+                        .score(60 + i * 10) // 60, 70, 80, 90
+                        .evaluatedAt(java.time.LocalDateTime.now())
+                        .build());
+                projectRepository.save(Project.builder()
+                        .title("Pending " + i)
+                        .hackathon(h)
+                        .submittedBy(participant)
+                        .status(ProjectStatus.SUBMITTED)
+                        .score(0)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        com.example.demo.dto.OrganizerDashboardResponse dashboard = hackathonService.getOrganizerDashboard(organizer.getId());
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(dashboard.getTotalHackathonsCreated()).isEqualTo(30);
+        assertThat(dashboard.getTotalParticipants()).isEqualTo(20);
+        assertThat(dashboard.getTotalProjects()).isEqualTo(8);
+        assertThat(dashboard.getRegistrationsByStatus().get(RegistrationStatus.CANCELLED)).isEqualTo(10);
+        assertThat(dashboard.getProjectsByStatus().get(ProjectStatus.ACCEPTED)).isEqualTo(4);
+        assertThat(dashboard.getProjectsByStatus().get(ProjectStatus.SUBMITTED)).isEqualTo(4);
+        assertThat(dashboard.getAverageScore()).isEqualTo(75.0);
+        // Rows still carry the listing fields
+        com.example.demo.dto.OrganizerHackathonStats first = dashboard.getMyHackathons().stream()
+                .filter(row -> row.getName().equals("Org Dash 1")).findFirst().orElseThrow();
+        assertThat(first.getDescription()).isEqualTo("Dashboard hackathon 1");
+        assertThat(first.getLocation()).isEqualTo("Online");
+        assertThat(first.getPrizeAmount()).isEqualTo(1000.0);
+        assertThat(first.getOrganizerName()).isEqualTo("Organizer One");
+        assertThat(first.getOrganizerId()).isEqualTo(organizer.getId());
+        assertThat(first.getCreatedAt()).isNotNull();
+        assertThat(dashboard.getMyHackathons().get(0).getAverageScore()).isEqualTo(60.0);
+        assertThat(dashboard.getMyHackathons().get(29).getAverageScore()).isNull();
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.demo;
+
+import com.example.demo.config.IdBlockAllocator;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for @PooledId / IdBlockAllocator.
+ * Not @Transactional — inserts must be flushed and committed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdBlockAllocatorTest {
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'pooled-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("saveAll(): 120 new users share one batched INSERT statement  (FIX P20)")
+    void saveAll_insertsAreBatched() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            users.add(User.builder()
+                    .name("Pooled User " + i)
+                    .email("pooled-" + i + "@test.com")
+                    .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                    .role(Role.PARTICIPANT)
+                    .active(true)
+                    .build());
+        }
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        userRepository.saveAll(users);
+
+        assertThat(stats.getEntityInsertCount()).isEqualTo(120);
+        // IDENTITY prepared and ran one INSERT per row; now one statement carries
+        // every batch, and block reservations run on the allocator's own pool
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(users).extracting(User::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("next(): concurrent callers never receive the same id")
+    void next_concurrentCallersGetDistinctIds() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    ids.add(idBlockAllocator.next("judges"));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(ids).hasSize(8 * 500).allMatch(id -> id > 0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo;
+
+import com.example.demo.dto.LeaderboardRank;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.service.LeaderboardEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory leaderboard index (no Spring context).
+ */
+class LeaderboardEngineTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private static ProjectResponse project(long id, long hackathonId, int score, int minutesAfterT0) {
+        return ProjectResponse.builder()
+                .id(id)
+                .hackathonId(hackathonId)
+                .hackathonName("Hack " + hackathonId)
+                .title("Project " + id)
+                .score(score)
+                .submittedAt(T0.plusMinutes(minutesAfterT0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("top(): score DESC, then earlier submission first")
+    void top_ordersByScoreThenSubmittedAt() {
+        LeaderboardEngine engine = new LeaderboardEngine();
+        engine.warm(List.of(
+                project(1, 10, 70, 5),
+                project(2, 10, 90, 9),
+                project(3, 20, 70, 1),
+                project(4, 20, 50, 0)));
+
+        assertThat(engine.top(null, 10)).extracting(ProjectResponse::getId).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(engine.top(10L, 10)).extracting(ProjectResponse::getId).containsExactly(2L, 1L);
+        assertThat(engine.top(null, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("upsert(): re-scoring moves the project and updates ranks")
+    void upsert_reordersAndRanks() {
+        LeaderboardEngine engine = new LeaderboardEngine();
+        engine.warm(List.of(
+                project(1, 10, 0, 0),
+                project(2, 10, 0, 1),
+                project(3, 20, 0, 2)));
+
+        engine.upsert(project(3, 20, 85, 2));
+
+        LeaderboardRank rank = engine.rankOf(3L).orElseThrow();
+        assertThat(rank.getGlobalRank()).isEqualTo(1);
+        assertThat(rank.getHackathonRank()).isEqualTo(1);
+        assertThat(rank.getGlobalTotal()).isEqualTo(3);
+
+        // Tie on score 0: project 2 submitted after project 1
+        assertThat(engine.rankOf(2L).orElseThrow().getGlobalRank()).isEqualTo(3);
+        assertThat(engine.rankOf(2L).orElseThrow().getHackathonRank()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("removeHackathon(): drops its projects from every board")
+    void removeHackathon_dropsProjects() {
+        LeaderboardEngine engine = new LeaderboardEngine();
+        engine.warm(List.of(project(1, 10, 40, 0), project(2, 20, 60, 0)));
+
+        engine.removeHackathon(20L);
+
+        assertThat(engine.top(null, 10)).extracting(ProjectResponse::getId).containsExactly(1L);
+        assertThat(engine.rankOf(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rankOf(): ties resolved by submission order after warm, upserts and bulk changes  (FIX P3)")
+    void rankOf_manyTies_matchesTopOrder() {
+        LeaderboardEngine engine = new LeaderboardEngine();
+        List<ProjectResponse> projects = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Mostly unevaluated (score 0), submitted in scrambled order across two hackathons
+            projects.add(project(i + 1, 10 + i % 2, i % 10 == 0 ? 50 : 0, (i * 37) % 300));
+        }
+        engine.warm(projects);
+        engine.upsert(project(7, 11, 50, 500));
+        engine.upsert(project(301, 10, 0, 150));
+        engine.remove(42L);
+        engine.renameHackathon(10L, "Renamed");
+        engine.removeHackathon(11L);
+
+        List<ProjectResponse> ordered = engine.top(null, Integer.MAX_VALUE);
+        assertThat(ordered).hasSize(150);
+        for (int i = 0; i < ordered.size(); i++) {
+            LeaderboardRank rank = engine.rankOf(ordered.get(i).getId()).orElseThrow();
+            assertThat(rank.getGlobalRank()).isEqualTo(i + 1);
+            assertThat(rank.getHackathonRank()).isEqualTo(i + 1);
+        }
+        assertThat(ordered).extracting(ProjectResponse::getHackathonName).containsOnly("Renamed");
+    }
+}
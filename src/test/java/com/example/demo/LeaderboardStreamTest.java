@@ -0,0 +1,180 @@
+package com.example.demo;
+
+import com.example.demo.dto.EvaluationRequest;
+import com.example.demo.dto.LeaderboardEntry;
+import com.example.demo.dto.LeaderboardUpdate;
+import com.example.demo.model.*;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.JudgeRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.HackathonService;
+import com.example.demo.service.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the SSE leaderboard stream.
+ * Not @Transactional — the stream is fed after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LeaderboardStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JudgeRepository judgeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long hackathonId;
+
+    @AfterEach
+    void cleanUp() {
+        if (hackathonId != null) {
+            jdbcTemplate.update("DELETE FROM judges WHERE hackathon_id = ?", hackathonId);
+            hackathonService.deleteHackathon(hackathonId, "stream-org@test.com");
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'stream-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("stream: snapshot on connect, then one coalesced delta per evaluation batch  (FIX P24)")
+    void stream_sendsSnapshotThenCoalescedDelta() throws Exception {
+        User organizer = saveUser("stream-org@test.com", Role.ORGANIZER);
+        User judge = saveUser("stream-judge@test.com", Role.JUDGE);
+        Hackathon hackathon = hackathonRepository.save(Hackathon.builder()
+                .name("Stream Hack")
+                .location("Online")
+                .startDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(1))
+                .maxParticipants(10)
+                .status(HackathonStatus.ACTIVE)
+                .organizer(organizer)
+                .build());
+        hackathonId = hackathon.getId();
+        judgeRepository.save(Judge.builder().user(judge).hackathon(hackathon).build());
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            projects.add(projectRepository.save(Project.builder()
+                    .title("Stream Project " + i)
+                    .hackathon(hackathon)
+                    .submittedBy(saveUser("stream-p" + i + "@test.com", Role.PARTICIPANT))
+                    .build()));
+        }
+        projectService.evaluateProject(hackathonId, evaluation(projects.get(0), 50), judge.getEmail());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/projects/leaderboard/stream")
+                        .param("hackathonId", hackathonId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        List<LeaderboardUpdate> snapshots = awaitEvents(response, "snapshot", 1);
+        assertThat(snapshots.get(0).getEntries()).extracting(LeaderboardEntry::getProjectId)
+                .containsExactly(projects.get(0).getId());
+
+        // Three evaluations in one commit reach subscribers as a single delta
+        projectService.evaluateProjects(hackathonId, List.of(
+                evaluation(projects.get(0), 70),
+                evaluation(projects.get(1), 90),
+                evaluation(projects.get(2), 60)), judge.getEmail());
+
+        LeaderboardUpdate delta = awaitEvents(response, "delta", 1).get(0);
+        assertThat(delta.getEntries())
+                .extracting(LeaderboardEntry::getProjectId, LeaderboardEntry::getRank, LeaderboardEntry::getScore)
+                .containsExactlyInAnyOrder(
+                        tuple(projects.get(1).getId(), 1, 90),
+                        tuple(projects.get(0).getId(), 2, 70),
+                        tuple(projects.get(2).getId(), 3, 60));
+        assertThat(delta.getRemoved()).isEmpty();
+
+        Thread.sleep(1000);
+        assertThat(events(response, "delta")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("stream: unknown hackathon is 404")
+    void stream_unknownHackathon_404() throws Exception {
+        mockMvc.perform(get("/api/projects/leaderboard/stream").param("hackathonId", "987654321"))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<LeaderboardUpdate> awaitEvents(MockHttpServletResponse response, String name, int count)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        List<LeaderboardUpdate> events = events(response, name);
+        while (events.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            events = events(response, name);
+        }
+        assertThat(events).as(name + " events").hasSizeGreaterThanOrEqualTo(count);
+        return events;
+    }
+
+    /** Parses the "event:" / "data:" pairs written so far. */
+    private List<LeaderboardUpdate> events(MockHttpServletResponse response, String name) throws Exception {
+        List<LeaderboardUpdate> events = new ArrayList<>();
+        String current = null;
+        for (String line : response.getContentAsString().split("\n")) {
+            if (line.startsWith("event:")) {
+                current = line.substring("event:".length());
+            } else if (line.startsWith("data:") && name.equals(current)) {
+                events.add(objectMapper.readValue(line.substring("data:".length()), LeaderboardUpdate.class));
+            }
+        }
+        return events;
+    }
+
+    private static EvaluationRequest evaluation(Project project, int score) {
+        return EvaluationRequest.builder().projectId(project.getId()).score(score).feedback("ok").build();
+    }
+
+    private User saveUser(String email, Role role) {
+        return userRepository.save(User.builder()
+                .name("Stream User " + email)
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+}
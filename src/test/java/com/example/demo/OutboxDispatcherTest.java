@@ -0,0 +1,231 @@
+package com.example.demo;
+
+import com.example.demo.model.*;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.DomainEvent;
+import com.example.demo.service.DomainEvents;
+import com.example.demo.service.HackathonService;
+import com.example.demo.service.OutboxDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the transactional outbox and its dispatcher.
+ * Not @Transactional — only committed events are relayed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxDispatcherTest {
+
+    private static final long AGGREGATE_A = 9_000_000_001L;
+    private static final long AGGREGATE_B = 9_000_000_002L;
+
+    @Autowired
+    private DomainEvents domainEvents;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventMulticaster eventMulticaster;
+
+    /** Every delivery attempt seen by the test listener, failed ones included. */
+    private final List<DomainEvent> attempts = new CopyOnWriteArrayList<>();
+    private final List<DomainEvent> delivered = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failFirstOfA = new AtomicBoolean();
+
+    private final ApplicationListener<ApplicationEvent> listener = applicationEvent -> {
+        if (applicationEvent instanceof PayloadApplicationEvent<?> payload
+                && payload.getPayload() instanceof DomainEvent event) {
+            attempts.add(event);
+            if (event.aggregateId() == AGGREGATE_A && failFirstOfA.compareAndSet(true, false)) {
+                throw new IllegalStateException("listener unavailable");
+            }
+            delivered.add(event);
+        }
+    };
+
+    private Long hackathonId;
+
+    @BeforeEach
+    void setUp() {
+        eventMulticaster.addApplicationListener(listener);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        eventMulticaster.removeApplicationListener(listener);
+        // Released, not deleted: the row carries the delivery position counter
+        jdbcTemplate.update("UPDATE outbox_leases SET expires_at = ?", LocalDateTime.now().minusSeconds(1));
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE aggregate_id IN (?, ?)", AGGREGATE_A, AGGREGATE_B);
+        jdbcTemplate.update("DELETE FROM outbox_sequences WHERE aggregate_key IN (?, ?)",
+                "USER:" + AGGREGATE_A, "USER:" + AGGREGATE_B);
+        if (hackathonId != null) {
+            hackathonService.deleteHackathon(hackathonId, "outbox-org@test.com");
+            jdbcTemplate.update("DELETE FROM outbox_events WHERE aggregate_id = ?", hackathonId);
+            jdbcTemplate.update("DELETE FROM outbox_sequences WHERE aggregate_key = ?", "HACKATHON:" + hackathonId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'outbox-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("registerParticipant(): event committed with the registration, relayed once committed  (FIX P25)")
+    void registration_publishesEventThroughOutbox() {
+        User organizer = saveUser("outbox-org@test.com", Role.ORGANIZER);
+        User participant = saveUser("outbox-p@test.com", Role.PARTICIPANT);
+        hackathonId = hackathonRepository.save(Hackathon.builder()
+                .name("Outbox Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(5))
+                .endDate(LocalDate.now().plusDays(6))
+                .maxParticipants(10)
+                .status(HackathonStatus.UPCOMING)
+                .organizer(organizer)
+                .build()).getId();
+
+        hackathonService.registerParticipant(hackathonId, participant.getEmail());
+        assertThat(delivered).noneMatch(e -> e.aggregateId() == hackathonId);
+
+        outboxDispatcher.dispatchPending();
+        DomainEvent event = delivered.stream().filter(e -> e.aggregateId() == hackathonId)
+                .findFirst().orElseThrow();
+        assertThat(event.type()).isEqualTo(DomainEventType.PARTICIPANT_REGISTERED);
+        assertThat(event.longValue("userId")).isEqualTo(participant.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE id = ? AND dispatched_at IS NOT NULL",
+                Long.class, event.id())).isEqualTo(1);
+
+        // Rolled back with its transaction: no row, nothing to relay
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_B, Map.of("role", Role.PARTICIPANT));
+            status.setRollbackOnly();
+        });
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, AGGREGATE_B)).isZero();
+    }
+
+    @Test
+    @DisplayName("dispatch: a failed event is retried and holds back its aggregate only")
+    void failedDelivery_isRetriedInAggregateOrder() {
+        failFirstOfA.set(true);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_A, Map.of("n", 1));
+            domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_A, Map.of("n", 2));
+            domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_B, Map.of("n", 3));
+        });
+
+        // First pass: A's first event fails and holds back A's second; B goes through
+        outboxDispatcher.dispatchPending();
+        assertThat(testAttempts()).containsExactly(1L, 3L);
+        Long failedId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM outbox_events WHERE aggregate_id = ?", Long.class, AGGREGATE_A);
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error, dispatched_at FROM outbox_events WHERE id = ?", failedId))
+                .containsEntry("ATTEMPTS", 1)
+                .containsEntry("LAST_ERROR", "listener unavailable")
+                .containsEntry("DISPATCHED_AT", null);
+
+        // Next pass (the poll) retries A in order
+        outboxDispatcher.dispatchPending();
+        assertThat(testAttempts()).containsExactly(1L, 3L, 1L, 2L);
+        assertThat(delivered).filteredOn(e -> e.aggregateId() == AGGREGATE_A)
+                .extracting(DomainEvent::sequence).containsExactly(1L, 2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id IN (?, ?) AND dispatched_at IS NULL",
+                Long.class, AGGREGATE_A, AGGREGATE_B)).isZero();
+    }
+
+    @Test
+    @DisplayName("dispatch: an aggregate's events go out in commit order even when ids are not")
+    void interleavedIds_relayedInSequenceOrder() {
+        for (int n = 1; n <= 2; n++) {
+            Map<String, Object> payload = Map.of("n", n);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_A, payload));
+        }
+        // As if the second commit had come from a node with a lower id block
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_events WHERE aggregate_id = ? ORDER BY sequence_number", Long.class, AGGREGATE_A);
+        jdbcTemplate.update("UPDATE outbox_events SET id = -id WHERE id = ?", ids.get(0));
+        jdbcTemplate.update("UPDATE outbox_events SET id = ? WHERE id = ?", ids.get(0), ids.get(1));
+        jdbcTemplate.update("UPDATE outbox_events SET id = ? WHERE id = ?", ids.get(1), -ids.get(0));
+
+        outboxDispatcher.dispatchPending();
+        assertThat(testAttempts()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("dispatch: nothing is relayed while another node holds the lease, everything once it expires")
+    void leaseHeldElsewhere_blocksDispatchUntilExpiry() {
+        outboxDispatcher.dispatchPending();
+        jdbcTemplate.update("UPDATE outbox_leases SET owner = 'other-node', expires_at = ? WHERE name = 'dispatcher'",
+                LocalDateTime.now().plusMinutes(5));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE_A, Map.of("n", 1)));
+
+        assertThat(outboxDispatcher.dispatchPending()).isZero();
+        assertThat(testAttempts()).isEmpty();
+
+        jdbcTemplate.update("UPDATE outbox_leases SET expires_at = ? WHERE name = 'dispatcher'",
+                LocalDateTime.now().minusSeconds(1));
+        outboxDispatcher.dispatchPending();
+        assertThat(testAttempts()).containsExactly(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT owner FROM outbox_leases WHERE name = 'dispatcher'",
+                String.class)).isNotEqualTo("other-node");
+    }
+
+    /** The "n" of each attempt on this test's aggregates, in order. */
+    private List<Long> testAttempts() {
+        return attempts.stream()
+                .filter(e -> e.aggregateId() == AGGREGATE_A || e.aggregateId() == AGGREGATE_B)
+                .map(e -> e.longValue("n"))
+                .toList();
+    }
+
+    private User saveUser(String email, Role role) {
+        return userRepository.save(User.builder()
+                .name("Outbox User")
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+}
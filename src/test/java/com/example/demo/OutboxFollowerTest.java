@@ -0,0 +1,316 @@
+package com.example.demo;
+
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.SearchHit;
+import com.example.demo.dto.TechStackFacet;
+import com.example.demo.model.*;
+import com.example.demo.repository.HackathonRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.RegistrationRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.DomainEvent;
+import com.example.demo.service.DomainEvents;
+import com.example.demo.service.HackathonService;
+import com.example.demo.service.LeaderboardEngine;
+import com.example.demo.service.OutboxDispatcher;
+import com.example.demo.service.OutboxFollower;
+import com.example.demo.service.SearchIndex;
+import com.example.demo.service.TechStackIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for OutboxFollower and RemoteWriteListener: writes
+ * committed and dispatched by another node reach this node's listeners,
+ * caches and indexes. "Another node" is simulated by rewriting origin /
+ * dispatched_by on the pending rows. Not @Transactional — only committed
+ * events are dispatched.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxFollowerTest {
+
+    private static final long AGGREGATE = 9_000_000_101L;
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    private DomainEvents domainEvents;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxFollower outboxFollower;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private LeaderboardEngine leaderboardEngine;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TechStackIndex techStackIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventMulticaster eventMulticaster;
+
+    private final List<DomainEvent> delivered = new CopyOnWriteArrayList<>();
+
+    private final ApplicationListener<ApplicationEvent> listener = applicationEvent -> {
+        if (applicationEvent instanceof PayloadApplicationEvent<?> payload
+                && payload.getPayload() instanceof DomainEvent event && event.aggregateId() == AGGREGATE) {
+            delivered.add(event);
+        }
+    };
+
+    private long outboxMark;
+    private Long hackathonId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        // Take the lease (creating its row) and drain whatever earlier tests left
+        // behind, so every pending row from here on is this test's
+        outboxDispatcher.dispatchPending();
+        outboxFollower.follow();
+        outboxMark = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM outbox_events", Long.class);
+        eventMulticaster.addApplicationListener(listener);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        eventMulticaster.removeApplicationListener(listener);
+        if (hackathonId != null) {
+            hackathonService.deleteHackathon(hackathonId, "follower-org@test.com");
+            jdbcTemplate.update("DELETE FROM outbox_sequences WHERE aggregate_key = ?", "HACKATHON:" + hackathonId);
+        }
+        if (projectId != null) {
+            jdbcTemplate.update("DELETE FROM outbox_sequences WHERE aggregate_key = ?", "PROJECT:" + projectId);
+        }
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id > ?", outboxMark);
+        jdbcTemplate.update("DELETE FROM outbox_sequences WHERE aggregate_key = ?", "USER:" + AGGREGATE);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'follower-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("follow(): events another node dispatched are published here in order; this node's are not")
+    void follow_replaysOtherNodesDispatches() {
+        publish(1);
+        outboxDispatcher.dispatchPending();
+        assertThat(delivered).extracting(e -> e.longValue("n")).containsExactly(1L);
+
+        publish(2);
+        publish(3);
+        dispatchedByOtherNode();
+        assertThat(outboxFollower.follow()).isEqualTo(2);
+        assertThat(delivered).extracting(e -> e.longValue("n")).containsExactly(1L, 2L, 3L);
+        assertThat(delivered).extracting(DomainEvent::sequence).containsExactly(1L, 2L, 3L);
+
+        assertThat(outboxFollower.follow()).isZero();
+        assertThat(delivered).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("registration committed on another node → this node's cached hackathon is invalidated  (FIX P25)")
+    void remoteRegistration_invalidatesCachedHackathon() {
+        hackathonId = saveHackathon();
+        assertThat(hackathonService.getHackathonById(hackathonId).getRegistrationCount()).isZero();
+
+        // Relayed by this node (it holds the lease)
+        registerElsewhere(saveUser("follower-p1@test.com", Role.PARTICIPANT));
+        assertThat(hackathonService.getHackathonById(hackathonId).getRegistrationCount()).isZero();
+        outboxDispatcher.dispatchPending();
+        assertThat(hackathonService.getHackathonById(hackathonId).getRegistrationCount()).isEqualTo(1);
+
+        // Relayed by the other node, replayed here
+        registerElsewhere(saveUser("follower-p2@test.com", Role.PARTICIPANT));
+        dispatchedByOtherNode();
+        assertThat(hackathonService.getHackathonById(hackathonId).getRegistrationCount()).isEqualTo(1);
+        outboxFollower.follow();
+        assertThat(hackathonService.getHackathonById(hackathonId).getRegistrationCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("project submitted and evaluated on another node → ranked and faceted on this node  (FIX P3, P16)")
+    void remoteProjectWrites_updateLeaderboard() {
+        hackathonId = saveHackathon();
+        User participant = saveUser("follower-p1@test.com", Role.PARTICIPANT);
+
+        projectId = elsewhere(status -> {
+            Project project = projectRepository.save(Project.builder()
+                    .title("Remote Project")
+                    .techStack("Java")
+                    .hackathon(hackathonRepository.getReferenceById(hackathonId))
+                    .submittedBy(participant)
+                    .build());
+            domainEvents.publish(DomainEventType.PROJECT_SUBMITTED, project.getId(), Map.of(
+                    "hackathonId", hackathonId,
+                    "submittedById", participant.getId()));
+            return project.getId();
+        });
+        dispatchedByOtherNode();
+        assertThat(leaderboardEngine.rankOf(projectId)).isEmpty();
+        assertThat(techStackIndex.facets(hackathonId, List.of(), null, 10).getMatchingProjects()).isZero();
+        outboxFollower.follow();
+        assertThat(leaderboardEngine.rankOf(projectId)).hasValueSatisfying(rank -> {
+            assertThat(rank.getScore()).isZero();
+            assertThat(rank.getHackathonRank()).isEqualTo(1);
+            assertThat(rank.getHackathonTotal()).isEqualTo(1);
+        });
+        assertThat(techStackIndex.facets(hackathonId, List.of(), null, 10).getFacets())
+                .extracting(TechStackFacet::getTag, TechStackFacet::getCount)
+                .containsExactly(tuple("java", 1));
+
+        elsewhere(status -> {
+            Project project = projectRepository.findById(projectId).orElseThrow();
+            project.setScore(90);
+            project.setStatus(ProjectStatus.ACCEPTED);
+            domainEvents.publish(DomainEventType.PROJECT_EVALUATED, projectId, Map.of(
+                    "hackathonId", hackathonId,
+                    "score", 90));
+            return null;
+        });
+        dispatchedByOtherNode();
+        outboxFollower.follow();
+        assertThat(leaderboardEngine.top(hackathonId, 10))
+                .extracting(ProjectResponse::getId, ProjectResponse::getScore)
+                .containsExactly(tuple(projectId, 90));
+    }
+
+    @Test
+    @DisplayName("hackathon created and renamed on another node → searchable here under its new name  (FIX P15)")
+    void remoteHackathonWrites_updateSearchIndex() {
+        User organizer = saveUser("follower-org@test.com", Role.ORGANIZER);
+        hackathonId = elsewhere(status -> {
+            Long id = hackathonRepository.save(newHackathon("Quokkathon", organizer)).getId();
+            domainEvents.publish(DomainEventType.HACKATHON_CREATED, id, Map.of("organizerId", organizer.getId()));
+            return id;
+        });
+        dispatchedByOtherNode();
+        assertThat(searchIndex.search("quokkathon", null, null, null, 10)).isEmpty();
+        outboxFollower.follow();
+        assertThat(searchIndex.search("quokkathon", null, null, null, 10))
+                .extracting(SearchHit::getId).containsExactly(hackathonId);
+
+        elsewhere(status -> {
+            Hackathon hackathon = hackathonRepository.findById(hackathonId).orElseThrow();
+            hackathon.setName("Wombathon");
+            domainEvents.publish(DomainEventType.HACKATHON_UPDATED, hackathonId, Map.of("name", "Wombathon"));
+            return null;
+        });
+        dispatchedByOtherNode();
+        outboxFollower.follow();
+        assertThat(searchIndex.search("quokkathon", null, null, null, 10)).isEmpty();
+        assertThat(searchIndex.search("wombathon", null, null, null, 10))
+                .extracting(SearchHit::getId).containsExactly(hackathonId);
+    }
+
+    private void publish(int n) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                domainEvents.publish(DomainEventType.USER_REGISTERED, AGGREGATE, Map.of("n", n)));
+    }
+
+    /** What another node's registerParticipant() commits: the row and its event. */
+    private void registerElsewhere(User participant) {
+        elsewhere(status -> {
+            registrationRepository.save(Registration.builder()
+                    .user(participant)
+                    .hackathon(hackathonRepository.getReferenceById(hackathonId))
+                    .status(RegistrationStatus.REGISTERED)
+                    .build());
+            domainEvents.publish(DomainEventType.PARTICIPANT_REGISTERED, hackathonId,
+                    Map.of("userId", participant.getId()));
+            return null;
+        });
+    }
+
+    /** Commits a write as another node would: same rows and events, none of this node's after-commit hooks. */
+    private <T> T elsewhere(TransactionCallback<T> write) {
+        T result = new TransactionTemplate(transactionManager).execute(write);
+        jdbcTemplate.update("UPDATE outbox_events SET origin = ? WHERE dispatched_at IS NULL", OTHER_NODE);
+        return result;
+    }
+
+    /** Marks the pending events as the other node's dispatcher would. */
+    private void dispatchedByOtherNode() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_events WHERE dispatched_at IS NULL ORDER BY id", Long.class);
+        jdbcTemplate.update("UPDATE outbox_leases SET last_position = last_position + ? WHERE name = 'dispatcher'",
+                ids.size());
+        long position = jdbcTemplate.queryForObject(
+                "SELECT last_position FROM outbox_leases WHERE name = 'dispatcher'", Long.class) - ids.size();
+        for (Long id : ids) {
+            jdbcTemplate.update("UPDATE outbox_events SET dispatched_at = ?, dispatched_by = ?, delivery_position = ? "
+                    + "WHERE id = ?", LocalDateTime.now(), OTHER_NODE, ++position, id);
+        }
+    }
+
+    private Long saveHackathon() {
+        return hackathonRepository.save(newHackathon("Follower Hack",
+                saveUser("follower-org@test.com", Role.ORGANIZER))).getId();
+    }
+
+    private static Hackathon newHackathon(String name, User organizer) {
+        return Hackathon.builder()
+                .name(name)
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(5))
+                .endDate(LocalDate.now().plusDays(6))
+                .maxParticipants(10)
+                .status(HackathonStatus.UPCOMING)
+                .organizer(organizer)
+                .build();
+    }
+
+    private User saveUser(String email, Role role) {
+        return userRepository.save(User.builder()
+                .name("Follower User")
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+}
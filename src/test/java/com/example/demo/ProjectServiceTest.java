@@ -0,0 +1,222 @@
+package com.example.demo;
+
+import com.example.demo.dto.EvaluationBatchError;
+import com.example.demo.dto.EvaluationBatchResponse;
+import com.example.demo.dto.EvaluationRequest;
+import com.example.demo.dto.LeaderboardRank;
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.*;
+import com.example.demo.repository.*;
+import com.example.demo.service.ProjectService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for ProjectService evaluation and listing paths.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional // rolls back after each test
+class ProjectServiceTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JudgeRepository judgeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User organizer;
+    private User judgeUser;
+    private Hackathon hackathon;
+    private Hackathon otherHackathon;
+
+    @BeforeEach
+    void setUp() {
+        organizer = saveUser("Eval Organizer", "eval-org@test.com", Role.ORGANIZER);
+        judgeUser = saveUser("Eval Judge", "eval-judge@test.com", Role.JUDGE);
+        hackathon = saveHackathon("Eval Hack");
+        otherHackathon = saveHackathon("Other Eval Hack");
+        judgeRepository.save(Judge.builder().user(judgeUser).hackathon(hackathon).build());
+    }
+
+    @Test
+    @DisplayName("evaluateProjects(): applies valid items, reports the rest, constant statement count  (FIX P19)")
+    void evaluateProjects_batchesAndReportsPerItem() {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            projects.add(saveProject("Batch Project " + i, hackathon));
+        }
+        Project foreign = saveProject("Foreign Project", otherHackathon);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EvaluationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            requests.add(new EvaluationRequest(projects.get(i).getId(), "Feedback " + i, 55 + i * 10));
+        }
+        requests.add(new EvaluationRequest(projects.get(0).getId(), "Again", 10));
+        requests.add(new EvaluationRequest(foreign.getId(), "Wrong hackathon", 90));
+        requests.add(new EvaluationRequest(Long.MAX_VALUE, "Missing", 90));
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        EvaluationBatchResponse response = projectService.evaluateProjects(
+                hackathon.getId(), requests, judgeUser.getEmail());
+        entityManager.flush();
+
+        // judge user + assignment + projects IN query + batched project UPDATE + judge UPDATE
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(response.getRequested()).isEqualTo(8);
+        assertThat(response.getEvaluated()).isEqualTo(5);
+        assertThat(response.getResults()).extracting(ProjectResponse::getStatus).containsExactly(
+                ProjectStatus.REJECTED, ProjectStatus.ACCEPTED, ProjectStatus.ACCEPTED,
+                ProjectStatus.WINNER, ProjectStatus.WINNER);
+        assertThat(response.getErrors()).extracting(EvaluationBatchError::getIndex).containsExactly(5, 6, 7);
+
+        entityManager.clear();
+        assertThat(projectRepository.findById(projects.get(0).getId()).orElseThrow().getScore()).isEqualTo(55);
+        assertThat(projectRepository.findById(foreign.getId()).orElseThrow().getScore()).isZero();
+        assertThat(judgeRepository.findByUserIdAndHackathonId(judgeUser.getId(), hackathon.getId())
+                .orElseThrow().getProjectsEvaluated()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("evaluateProjects(): judge not assigned to the hackathon → whole batch rejected")
+    void evaluateProjects_unassignedJudge_throws() {
+        Project project = saveProject("Unassigned Project", otherHackathon);
+
+        assertThatThrownBy(() -> projectService.evaluateProjects(otherHackathon.getId(),
+                List.of(new EvaluationRequest(project.getId(), "Nice", 70)), judgeUser.getEmail()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("not assigned");
+    }
+
+    @Test
+    @DisplayName("project listings: at most two statements regardless of row count  (FIX P21)")
+    void projectListings_doNotLoadAssociationsPerRow() {
+        for (int i = 0; i < 4; i++) {
+            saveProject("Listed Project " + i, i % 2 == 0 ? hackathon : otherHackathon);
+        }
+        Project mine = saveProject("My Project", hackathon);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Supplier<List<ProjectResponse>>> listings = new LinkedHashMap<>();
+        listings.put("getAllProjects(hackathon)", () -> projectService.getAllProjects(hackathon.getId()));
+        listings.put("getAllProjects()", () -> projectService.getAllProjects(null));
+        listings.put("getProjectPage(hackathon)",
+                () -> projectService.getProjectPage(hackathon.getId(), null, 50).getItems());
+        listings.put("getProjectPage()", () -> projectService.getProjectPage(null, null, 50).getItems());
+        listings.put("getMyProjects()", () -> projectService.getMyProjects(mine.getSubmittedBy().getEmail()));
+        listings.put("leaderboard fallback(hackathon)", () -> projectRepository.findLeaderboardByHackathonId(
+                hackathon.getId(), PageRequest.ofSize(50)));
+        listings.put("leaderboard fallback()", () -> projectRepository.findLeaderboard(PageRequest.ofSize(50)));
+
+        listings.forEach((name, listing) -> {
+            stats.clear();
+            List<ProjectResponse> rows = listing.get();
+            assertThat(rows).as(name).isNotEmpty()
+                    .allSatisfy(p -> assertThat(p.getHackathonName()).isNotNull())
+                    .allSatisfy(p -> assertThat(p.getSubmittedByName()).startsWith("Submitter "));
+            assertThat(stats.getPrepareStatementCount()).as(name).isLessThanOrEqualTo(2);
+            entityManager.clear();
+        });
+        assertThat(projectService.getAllProjects(hackathon.getId())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("getRank(): project this node has not indexed → ranked from the DB; unknown project → 404")
+    void getRank_notIndexed_fallsBackToDb() {
+        Project low = saveProject("Ranked Low", hackathon);
+        low.setScore(40);
+        Project high = saveProject("Ranked High", hackathon);
+        high.setScore(90);
+        Project tied = saveProject("Ranked Tied", hackathon);
+        tied.setScore(40);
+        entityManager.flush();
+
+        LeaderboardRank highRank = projectService.getRank(high.getId());
+        assertThat(highRank.getHackathonRank()).isEqualTo(1);
+        assertThat(highRank.getHackathonTotal()).isEqualTo(3);
+        assertThat(highRank.getScore()).isEqualTo(90);
+        // Tie broken by submission order, as in LeaderboardEngine
+        assertThat(projectService.getRank(low.getId()).getHackathonRank()).isEqualTo(2);
+        LeaderboardRank tiedRank = projectService.getRank(tied.getId());
+        assertThat(tiedRank.getHackathonRank()).isEqualTo(3);
+        assertThat(tiedRank.getGlobalRank()).isGreaterThan(highRank.getGlobalRank());
+        assertThat(tiedRank.getGlobalTotal()).isEqualTo(projectRepository.count());
+
+        assertThatThrownBy(() -> projectService.getRank(Long.MAX_VALUE))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private User saveUser(String name, String email, Role role) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(email)
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(role)
+                .active(true)
+                .build());
+    }
+
+    private Hackathon saveHackathon(String name) {
+        return hackathonRepository.save(Hackathon.builder()
+                .name(name)
+                .location("Online")
+                .startDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(1))
+                .maxParticipants(50)
+                .prizeAmount(0.0)
+                .status(HackathonStatus.ACTIVE)
+                .organizer(organizer)
+                .build());
+    }
+
+    private Project saveProject(String title, Hackathon h) {
+        User submitter = saveUser("Submitter " + title, title.replace(' ', '-').toLowerCase() + "@test.com",
+                Role.PARTICIPANT);
+        return projectRepository.save(Project.builder()
+                .title(title)
+                .hackathon(h)
+                .submittedBy(submitter)
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo;
+
+import com.example.demo.exception.BadRequestException;
+import com.example.demo.model.*;
+import com.example.demo.repository.*;
+import com.example.demo.service.HackathonService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrency stress test for registration capacity (FIX H6).
+ * Not @Transactional — every registration must commit on its own thread.
+ *
+ * Runs against its own H2 database (and so its own application context):
+ * it commits 10k users and 500 registrations and leaves them there, which
+ * would otherwise skew the counts and indexes other test classes assert on.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:hacknation_stress;DB_CLOSE_DELAY=-1")
+class RegistrationConcurrencyTest {
+
+    private static final int SEATS = 500;
+    private static final int ATTEMPTS = 10_000;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HackathonRepository hackathonRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Test
+    @DisplayName("registerParticipant: 10k concurrent registrations on 500 seats → exactly 500 admitted")
+    void registerParticipant_concurrent_neverOverbooks() throws Exception {
+        User organizer = userRepository.save(User.builder()
+                .name("Stress Organizer")
+                .email("stress-org@test.com")
+                .password("$2a$12$dummyHash666666666666666666666666666666666666666666666")
+                .role(Role.ORGANIZER)
+                .active(true)
+                .build());
+
+        Hackathon h = hackathonRepository.save(Hackathon.builder()
+                .name("Stress Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxParticipants(SEATS)
+                .status(HackathonStatus.UPCOMING)
+                .organizer(organizer)
+                .build());
+
+        List<User> participants = new ArrayList<>(ATTEMPTS);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            participants.add(User.builder()
+                    .name("Stress Participant " + i)
+                    .email("stress-" + i + "@test.com")
+                    .password("$2a$12$dummyHash777777777777777777777777777777777777777777777")
+                    .role(Role.PARTICIPANT)
+                    .active(true)
+                    .build());
+        }
+        userRepository.saveAll(participants);
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+
+        for (User p : participants) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    hackathonService.registerParticipant(h.getId(), p.getEmail());
+                    admitted.incrementAndGet();
+                } catch (BadRequestException e) {
+                    full.incrementAndGet();
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(unexpected.get()).isZero();
+        assertThat(admitted.get()).isEqualTo(SEATS);
+        assertThat(full.get()).isEqualTo(ATTEMPTS - SEATS);
+        assertThat(registrationRepository.countActiveByHackathonId(h.getId())).isEqualTo(SEATS);
+    }
+}
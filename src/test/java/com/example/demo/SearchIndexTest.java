@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import com.example.demo.dto.HackathonRequest;
+import com.example.demo.dto.HackathonResponse;
+import com.example.demo.dto.SearchHit;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.HackathonService;
+import com.example.demo.service.SearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the full-text search index.
+ * Not @Transactional — the index is updated only after commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexTest {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("search: prefix match, name outranks description, status filter follows writes  (FIX P15)")
+    void search_followsServiceWrites() {
+        User organizer = userRepository.save(User.builder()
+                .name("Search Organizer")
+                .email("search-org@test.com")
+                .password("$2a$12$dummyHash777777777777777777777777777777777777777777777")
+                .role(Role.ORGANIZER)
+                .active(true)
+                .build());
+        HackathonResponse byName = create("Zephyrine Robotics Cup", "Build robots", organizer);
+        HackathonResponse byDescription = create("Spring Jam", "A zephyrine themed weekend", organizer);
+
+        List<SearchHit> hits = searchIndex.search("zephyr", null, null, null, 10);
+        assertThat(hits).extracting(SearchHit::getId).containsExactly(byName.getId(), byDescription.getId());
+        assertThat(hits.get(0).getType()).isEqualTo(SearchIndex.TYPE_HACKATHON);
+
+        // every token must match
+        assertThat(searchIndex.search("zephyr robot", null, null, null, 10))
+                .extracting(SearchHit::getId).containsExactly(byName.getId());
+
+        assertThat(searchIndex.search("zephyr", SearchIndex.TYPE_HACKATHON, "ACTIVE", null, 10)).isEmpty();
+        hackathonService.updateStatus(byName.getId(), HackathonStatus.ACTIVE, organizer.getEmail());
+        assertThat(searchIndex.search("zephyr", SearchIndex.TYPE_HACKATHON, "ACTIVE", null, 10))
+                .extracting(SearchHit::getId).containsExactly(byName.getId());
+
+        hackathonService.deleteHackathon(byName.getId(), organizer.getEmail());
+        assertThat(searchIndex.search("zephyr", null, null, null, 10))
+                .extracting(SearchHit::getId).containsExactly(byDescription.getId());
+
+        searchIndex.rebuild();
+        assertThat(searchIndex.search("zephyr", null, null, null, 10))
+                .extracting(SearchHit::getId).containsExactly(byDescription.getId());
+    }
+
+    private HackathonResponse create(String name, String description, User organizer) {
+        return hackathonService.createHackathon(HackathonRequest.builder()
+                .name(name)
+                .description(description)
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxParticipants(10)
+                .prizeAmount(0.0)
+                .build(), organizer.getEmail());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo;
+
+import com.example.demo.dto.HackathonRequest;
+import com.example.demo.dto.StatsResponse;
+import com.example.demo.model.HackathonStatus;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.HackathonService;
+import com.example.demo.service.StatsCounterService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the in-memory stats counters.
+ * Not @Transactional — counters only move after a real commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StatsCounterServiceTest {
+
+    @Autowired
+    private StatsCounterService statsCounterService;
+
+    @Autowired
+    private HackathonService hackathonService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("snapshot(): reflects committed writes and runs no SQL  (FIX P4)")
+    void snapshot_tracksWritesWithoutSql() {
+        User organizer = userRepository.save(User.builder()
+                .name("Stats Organizer")
+                .email("stats-org@test.com")
+                .password("$2a$12$dummyHash555555555555555555555555555555555555555555555")
+                .role(Role.ORGANIZER)
+                .active(true)
+                .build());
+        statsCounterService.reconcile();
+        StatsResponse before = statsCounterService.snapshot();
+
+        var created = hackathonService.createHackathon(HackathonRequest.builder()
+                .name("Counted Hack")
+                .location("Online")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(2))
+                .maxParticipants(10)
+                .prizeAmount(0.0)
+                .build(), organizer.getEmail());
+        hackathonService.updateStatus(created.getId(), HackathonStatus.ACTIVE, organizer.getEmail());
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        StatsResponse after = statsCounterService.snapshot();
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        assertThat(after.getTotalHackathons()).isEqualTo(before.getTotalHackathons() + 1);
+        assertThat(after.getActiveHackathons()).isEqualTo(before.getActiveHackathons() + 1);
+        assertThat(after.getUpcomingHackathons()).isEqualTo(before.getUpcomingHackathons());
+
+        hackathonService.deleteHackathon(created.getId(), organizer.getEmail());
+        assertThat(statsCounterService.snapshot().getTotalHackathons()).isEqualTo(before.getTotalHackathons());
+    }
+}
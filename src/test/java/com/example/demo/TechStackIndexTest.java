@@ -0,0 +1,90 @@
+package com.example.demo;
+
+import com.example.demo.dto.ProjectResponse;
+import com.example.demo.dto.TechStackFacet;
+import com.example.demo.dto.TechStackFacets;
+import com.example.demo.service.TechStackIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory tech-stack facet index (no Spring context).
+ */
+class TechStackIndexTest {
+
+    private static ProjectResponse project(long id, long hackathonId, String techStack) {
+        return ProjectResponse.builder()
+                .id(id)
+                .hackathonId(hackathonId)
+                .hackathonName("Hack " + hackathonId)
+                .title("Project " + id)
+                .techStack(techStack)
+                .build();
+    }
+
+    @Test
+    @DisplayName("tags(): split on separators, trimmed, lower-cased, de-duplicated  (FIX P16)")
+    void tags_normalisesFreeText() {
+        assertThat(TechStackIndex.tags(" React, Spring  Boot;react |PostgreSQL\n"))
+                .containsExactly("react", "spring boot", "postgresql");
+        assertThat(TechStackIndex.tags(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("facets(): counts reflect the selection; selected tags are ANDed")
+    void facets_intersectSelectedTags() {
+        TechStackIndex index = new TechStackIndex();
+        index.warm(List.of(
+                project(1, 10, "React, Java"),
+                project(2, 10, "React, Python"),
+                project(3, 10, "Java, Spring Boot"),
+                project(4, 20, "React")));
+
+        TechStackFacets all = index.facets(10L, List.of(), null, 20);
+        assertThat(all.getMatchingProjects()).isEqualTo(3);
+        assertThat(all.getFacets()).extracting(TechStackFacet::getTag, TechStackFacet::getCount)
+                .containsExactly(tuple("java", 2), tuple("react", 2), tuple("python", 1), tuple("spring boot", 1));
+
+        TechStackFacets react = index.facets(10L, List.of("REACT"), null, 20);
+        assertThat(react.getProjects().getItems()).extracting(ProjectResponse::getId).containsExactly(1L, 2L);
+        assertThat(react.getFacets()).extracting(TechStackFacet::getTag)
+                .containsExactly("react", "java", "python");
+
+        assertThat(index.facets(10L, List.of("react", "java"), null, 20).getProjects().getItems())
+                .extracting(ProjectResponse::getId).containsExactly(1L);
+        assertThat(index.facets(10L, List.of("react", "rust"), null, 20).getMatchingProjects()).isZero();
+    }
+
+    @Test
+    @DisplayName("upsert(): changed techStack moves the project between tags; pages follow the cursor")
+    void upsert_retagsAndPaginates() {
+        TechStackIndex index = new TechStackIndex();
+        index.warm(List.of(project(1, 10, "Go"), project(2, 10, "Go"), project(3, 10, "Rust")));
+
+        index.upsert(project(3, 10, "Go"));
+
+        TechStackFacets first = index.facets(10L, List.of("go"), null, 2);
+        assertThat(first.getFacets()).extracting(TechStackFacet::getTag).containsExactly("go");
+        assertThat(first.getProjects().getItems()).extracting(ProjectResponse::getId).containsExactly(1L, 2L);
+        assertThat(first.getProjects().isHasMore()).isTrue();
+
+        TechStackFacets second = index.facets(10L, List.of("go"), first.getProjects().getNextCursor(), 2);
+        assertThat(second.getProjects().getItems()).extracting(ProjectResponse::getId).containsExactly(3L);
+        assertThat(second.getProjects().isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("removeHackathon(): its facets disappear")
+    void removeHackathon_clearsFacets() {
+        TechStackIndex index = new TechStackIndex();
+        index.warm(List.of(project(1, 10, "React")));
+
+        index.removeHackathon(10L);
+
+        assertThat(index.facets(10L, List.of(), null, 20).getMatchingProjects()).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo;
+
+import com.example.demo.dto.UserImportError;
+import com.example.demo.dto.UserImportReport;
+import com.example.demo.model.Role;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ExportService.Format;
+import com.example.demo.service.UserImportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the admin bulk user import.
+ * Not @Transactional — each chunk commits in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserImportServiceTest {
+
+    private static final String HASH = "$2a$04$abcdefghijklmnopqrstuuJ6n0QHbYGhA0BvZlQ4qk0Xn7pD9Vq2u";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'import-%@test.com'");
+    }
+
+    @Test
+    @DisplayName("importUsers(CSV): valid rows imported, every rejected row reported  (FIX P18)")
+    void importCsv_reportsRejectedRows() throws Exception {
+        userRepository.save(User.builder()
+                .name("Already Here")
+                .email("import-existing@test.com")
+                .password(HASH)
+                .role(Role.PARTICIPANT)
+                .active(true)
+                .build());
+
+        String csv = "Email,Name,Password,Password_Hash,College,Role\r\n"
+                + "import-a@test.com,Ada Lovelace,correct-horse,,,\r\n"
+                + "IMPORT-B@test.com,Grace Hopper,," + HASH + ",\"Yale, New Haven\",judge\r\n"
+                + "import-a@test.com,Ada Again,correct-horse,,,\r\n"
+                + "import-existing@test.com,Existing,correct-horse,,,\r\n"
+                + "not-an-email,Bad Email,correct-horse,,,\r\n"
+                + "import-admin@test.com,Sneaky Admin,correct-horse,,,ADMIN\r\n"
+                + "import-nopw@test.com,No Password,,,,\r\n"
+                + "import-role@test.com,Odd Role,correct-horse,,,WIZARD\r\n";
+
+        UserImportReport report = importBody(csv, Format.CSV);
+
+        assertThat(report.getTotalRows()).isEqualTo(8);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(6);
+        assertThat(report.getErrors()).extracting(UserImportError::getRow).containsExactly(3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(report.getErrors().get(0).getMessage()).contains("first seen at row 1");
+        assertThat(report.getErrors().get(1).getMessage()).isEqualTo("Email is already registered");
+
+        User ada = userRepository.findByEmail("import-a@test.com").orElseThrow();
+        assertThat(ada.getRole()).isEqualTo(Role.PARTICIPANT);
+        assertThat(passwordEncoder.matches("correct-horse", ada.getPassword())).isTrue();
+        // Hashed at the import cost; rehashed at the configured cost on first login
+        assertThat(passwordEncoder.upgradeEncoding(ada.getPassword())).isTrue();
+
+        User grace = userRepository.findByEmail("import-b@test.com").orElseThrow();
+        assertThat(grace.getRole()).isEqualTo(Role.JUDGE);
+        assertThat(grace.getCollege()).isEqualTo("Yale, New Haven");
+        assertThat(grace.getPassword()).isEqualTo(HASH);
+    }
+
+    @Test
+    @DisplayName("importUsers(NDJSON): malformed lines are reported by line number")
+    void importNdjson_reportsMalformedLines() throws Exception {
+        String ndjson = "{\"name\":\"Json User\",\"email\":\"import-json@test.com\",\"passwordHash\":\"" + HASH + "\"}\n"
+                + "{\"name\": broken\n";
+
+        UserImportReport report = importBody(ndjson, Format.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getRow()).isEqualTo(2);
+                    assertThat(e.getMessage()).startsWith("Malformed JSON");
+                });
+        assertThat(userRepository.existsByEmail("import-json@test.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("importUsers(): one duplicate-check query per chunk, rows inserted by JDBC batch")
+    void import_oneExistenceQueryPerChunk() throws Exception {
+        StringBuilder csv = new StringBuilder("name,email,password_hash\n");
+        for (int i = 0; i < 2_500; i++) {
+            csv.append("Bulk User ").append(i).append(",import-bulk").append(i).append("@test.com,")
+                    .append(HASH).append('\n');
+        }
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        UserImportReport report = importBody(csv.toString(), Format.CSV);
+
+        assertThat(report.getImported()).isEqualTo(2_500);
+        assertThat(report.getFailed()).isZero();
+        // Default chunk size 1000 → 3 IN queries; the inserts bypass Hibernate
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'import-bulk%@test.com'", Long.class)).isEqualTo(2_500);
+    }
+
+    private UserImportReport importBody(String body, Format format) throws Exception {
+        return userImportService.importUsers(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}